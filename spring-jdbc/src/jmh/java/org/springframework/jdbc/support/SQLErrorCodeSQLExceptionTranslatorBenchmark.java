@@ -0,0 +1,63 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.support;
+
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Benchmarks for translating {@link SQLException SQLExceptions} through a
+ * {@link SQLErrorCodeSQLExceptionTranslator} with the error codes for Oracle,
+ * covering a code from the first category checked, a code from one of the last
+ * categories checked, and an unknown code handed over to the fallback translator.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class SQLErrorCodeSQLExceptionTranslatorBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"942", "60", "12345"})
+		public int errorCode;
+
+		public SQLErrorCodeSQLExceptionTranslator translator;
+
+		public SQLException exception;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.translator = new SQLErrorCodeSQLExceptionTranslator("Oracle");
+			this.exception = new SQLException("ORA-" + this.errorCode, "99999", this.errorCode);
+		}
+	}
+
+	@Benchmark
+	public DataAccessException translate(BenchmarkData data) {
+		return data.translator.translate("task", "SELECT 1 FROM DUAL", data.exception);
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.jdbc.core;
 
 import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -104,6 +105,10 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	@Nullable
 	private Set<String> mappedProperties;
 
+	/** Column-to-property binding for the most recently mapped result set. */
+	@Nullable
+	private volatile ColumnMapping columnMapping;
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper} for bean-style configuration.
@@ -220,6 +225,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	protected void initialize(Class<T> mappedClass) {
 		this.mappedClass = mappedClass;
+		this.columnMapping = null;
 		this.mappedFields = new HashMap<>();
 		this.mappedProperties = new HashSet<>();
 
@@ -245,6 +251,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		if (this.mappedFields != null) {
 			this.mappedFields.remove(lowerCaseName(propertyName));
 			this.mappedFields.remove(underscoreName(propertyName));
+			this.columnMapping = null;
 		}
 	}
 
@@ -300,15 +307,14 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		T mappedObject = constructMappedInstance(rs, bw);
 		bw.setBeanInstance(mappedObject);
 
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
-		Set<String> populatedProperties = (isCheckFullyPopulated() ? new HashSet<>() : null);
+		ColumnMapping mapping = getColumnMapping(rs);
+		String[] columns = mapping.columns;
+		PropertyDescriptor[] properties = mapping.properties;
 
-		for (int index = 1; index <= columnCount; index++) {
-			String column = JdbcUtils.lookupColumnName(rsmd, index);
-			String field = lowerCaseName(StringUtils.delete(column, " "));
-			PropertyDescriptor pd = (this.mappedFields != null ? this.mappedFields.get(field) : null);
+		for (int index = 1; index <= columns.length; index++) {
+			PropertyDescriptor pd = properties[index - 1];
 			if (pd != null) {
+				String column = columns[index - 1];
 				try {
 					Object value = getColumnValue(rs, index, pd);
 					if (rowNumber == 0 && logger.isDebugEnabled()) {
@@ -332,9 +338,6 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 							throw ex;
 						}
 					}
-					if (populatedProperties != null) {
-						populatedProperties.add(pd.getName());
-					}
 				}
 				catch (NotWritablePropertyException ex) {
 					throw new DataRetrievalFailureException(
@@ -343,7 +346,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 			}
 		}
 
-		if (populatedProperties != null && !populatedProperties.equals(this.mappedProperties)) {
+		if (isCheckFullyPopulated() && !mapping.fullyPopulated) {
 			throw new InvalidDataAccessApiUsageException("Given ResultSet does not contain all fields " +
 					"necessary to populate object of " + this.mappedClass + ": " + this.mappedProperties);
 		}
@@ -351,6 +354,42 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return mappedObject;
 	}
 
+	/**
+	 * Return the column-to-property binding for the given result set.
+	 * <p>The binding is resolved on the first row of a result set only:
+	 * subsequent rows of the same result set reuse it as is, while another
+	 * result set reuses it only if its meta-data reports the same columns.
+	 */
+	private ColumnMapping getColumnMapping(ResultSet rs) throws SQLException {
+		ColumnMapping mapping = this.columnMapping;
+		if (mapping == null || !mapping.isFor(rs)) {
+			ResultSetMetaData rsmd = rs.getMetaData();
+			mapping = (mapping != null && mapping.matches(rsmd) ?
+					mapping.forResultSet(rs) : createColumnMapping(rs, rsmd));
+			this.columnMapping = mapping;
+		}
+		return mapping;
+	}
+
+	private ColumnMapping createColumnMapping(ResultSet rs, ResultSetMetaData rsmd) throws SQLException {
+		int columnCount = rsmd.getColumnCount();
+		String[] columns = new String[columnCount];
+		PropertyDescriptor[] properties = new PropertyDescriptor[columnCount];
+		Set<String> populatedProperties = new HashSet<>();
+		for (int index = 1; index <= columnCount; index++) {
+			String column = JdbcUtils.lookupColumnName(rsmd, index);
+			columns[index - 1] = column;
+			if (this.mappedFields != null) {
+				PropertyDescriptor pd = this.mappedFields.get(lowerCaseName(StringUtils.delete(column, " ")));
+				if (pd != null) {
+					properties[index - 1] = pd;
+					populatedProperties.add(pd.getName());
+				}
+			}
+		}
+		return new ColumnMapping(rs, columns, properties, populatedProperties.equals(this.mappedProperties));
+	}
+
 	/**
 	 * Construct an instance of the mapped class for the current row.
 	 * @param rs the ResultSet to map (pre-initialized for the current row)
@@ -442,4 +481,47 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Binding of result set columns to bean properties, resolved once per
+	 * result set and reused for subsequent rows.
+	 */
+	private static final class ColumnMapping {
+
+		private final WeakReference<ResultSet> resultSet;
+
+		final String[] columns;
+
+		final PropertyDescriptor[] properties;
+
+		final boolean fullyPopulated;
+
+		ColumnMapping(ResultSet rs, String[] columns, PropertyDescriptor[] properties, boolean fullyPopulated) {
+			this.resultSet = new WeakReference<>(rs);
+			this.columns = columns;
+			this.properties = properties;
+			this.fullyPopulated = fullyPopulated;
+		}
+
+		boolean isFor(ResultSet rs) {
+			return (this.resultSet.get() == rs);
+		}
+
+		ColumnMapping forResultSet(ResultSet rs) {
+			return new ColumnMapping(rs, this.columns, this.properties, this.fullyPopulated);
+		}
+
+		boolean matches(ResultSetMetaData rsmd) throws SQLException {
+			if (rsmd.getColumnCount() != this.columns.length) {
+				return false;
+			}
+			for (int index = 1; index <= this.columns.length; index++) {
+				if (!this.columns[index - 1].equals(JdbcUtils.lookupColumnName(rsmd, index))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.jdbc.core;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -54,6 +55,10 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 	@Nullable
 	private TypeDescriptor[] constructorParameterTypes;
 
+	/** Column indexes of the constructor parameters in the most recently mapped result set. */
+	@Nullable
+	private volatile ParameterColumns constructorParameterColumns;
+
 
 	/**
 	 * Create a new {@code DataClassRowMapper} for bean-style configuration.
@@ -80,6 +85,7 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		int paramCount = this.mappedConstructor.getParameterCount();
 		if (paramCount > 0) {
 			this.constructorParameterNames = BeanUtils.getParameterNames(this.mappedConstructor);
+			this.constructorParameterColumns = null;
 			for (String name : this.constructorParameterNames) {
 				suppressProperty(name);
 			}
@@ -97,19 +103,10 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		Object[] args;
 		if (this.constructorParameterNames != null && this.constructorParameterTypes != null) {
 			args = new Object[this.constructorParameterNames.length];
+			int[] indexes = getConstructorParameterColumns(rs, this.constructorParameterNames);
 			for (int i = 0; i < args.length; i++) {
-				String name = this.constructorParameterNames[i];
-				int index;
-				try {
-					// Try direct name match first
-					index = rs.findColumn(lowerCaseName(name));
-				}
-				catch (SQLException ex) {
-					// Try underscored name match instead
-					index = rs.findColumn(underscoreName(name));
-				}
 				TypeDescriptor td = this.constructorParameterTypes[i];
-				Object value = getColumnValue(rs, index, td.getType());
+				Object value = getColumnValue(rs, indexes[i], td.getType());
 				args[i] = tc.convertIfNecessary(value, td.getType(), td);
 			}
 		}
@@ -120,6 +117,31 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return BeanUtils.instantiateClass(this.mappedConstructor, args);
 	}
 
+	/**
+	 * Return the column indexes of the constructor parameters in the given
+	 * result set, resolving them on the first row of a result set only.
+	 */
+	private int[] getConstructorParameterColumns(ResultSet rs, String[] names) throws SQLException {
+		ParameterColumns columns = this.constructorParameterColumns;
+		if (columns == null || !columns.isFor(rs)) {
+			int[] indexes = new int[names.length];
+			for (int i = 0; i < indexes.length; i++) {
+				String name = names[i];
+				try {
+					// Try direct name match first
+					indexes[i] = rs.findColumn(lowerCaseName(name));
+				}
+				catch (SQLException ex) {
+					// Try underscored name match instead
+					indexes[i] = rs.findColumn(underscoreName(name));
+				}
+			}
+			columns = new ParameterColumns(rs, indexes);
+			this.constructorParameterColumns = columns;
+		}
+		return columns.indexes;
+	}
+
 
 	/**
 	 * Static factory method to create a new {@code DataClassRowMapper}.
@@ -146,4 +168,25 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Column indexes of the constructor parameters, resolved once per
+	 * result set and reused for subsequent rows.
+	 */
+	private static final class ParameterColumns {
+
+		private final WeakReference<ResultSet> resultSet;
+
+		final int[] indexes;
+
+		ParameterColumns(ResultSet rs, int[] indexes) {
+			this.resultSet = new WeakReference<>(rs);
+			this.indexes = indexes;
+		}
+
+		boolean isFor(ResultSet rs) {
+			return (this.resultSet.get() == rs);
+		}
+	}
+
 }
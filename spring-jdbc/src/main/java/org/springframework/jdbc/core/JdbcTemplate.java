@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,6 +35,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -1702,10 +1703,15 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 
 	/**
 	 * Spliterator for queryForStream adaptation of a ResultSet to a Stream.
+	 * <p>For parallel streams, rows are read and mapped in batches of the
+	 * ResultSet's fetch size on the splitting thread, with each batch handed
+	 * off for downstream processing while the next batch is being fetched.
 	 * @since 5.3
 	 */
 	private static class ResultSetSpliterator<T> implements Spliterator<T> {
 
+		private static final int DEFAULT_BATCH_SIZE = 1024;
+
 		private final ResultSet rs;
 
 		private final RowMapper<T> rowMapper;
@@ -1734,7 +1740,18 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 		@Override
 		@Nullable
 		public Spliterator<T> trySplit() {
-			return null;
+			try {
+				int fetchSize = this.rs.getFetchSize();
+				Object[] batch = new Object[fetchSize > 0 ? fetchSize : DEFAULT_BATCH_SIZE];
+				int count = 0;
+				while (count < batch.length && this.rs.next()) {
+					batch[count++] = this.rowMapper.mapRow(this.rs, this.rowNum++);
+				}
+				return (count > 0 ? Spliterators.spliterator(batch, 0, count, Spliterator.ORDERED) : null);
+			}
+			catch (SQLException ex) {
+				throw new InvalidResultSetAccessException(ex);
+			}
 		}
 
 		@Override
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,8 +29,11 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -67,7 +70,8 @@ public abstract class StatementCreatorUtils {
 	 * for {@link StatementCreatorUtils#setNull} calls.
 	 * <p>The default is "false", trying {@code getParameterType} calls first and falling back to
 	 * {@link PreparedStatement#setNull} / {@link PreparedStatement#setObject} calls based on
-	 * well-known behavior of common databases.
+	 * well-known behavior of common databases. As of 5.3.20, {@code getParameterType}
+	 * is not attempted again for a JDBC driver once it failed on that driver.
 	 * <p>Consider switching this flag to "true" if you experience misbehavior at runtime,
 	 * e.g. with connection pool issues in case of an exception thrown from {@code getParameterType}
 	 * (as reported on JBoss AS 7) or in case of performance problems (as reported on PostgreSQL).
@@ -77,6 +81,10 @@ public abstract class StatementCreatorUtils {
 
 	static boolean shouldIgnoreGetParameterType = SpringProperties.getFlag(IGNORE_GETPARAMETERTYPE_PROPERTY_NAME);
 
+	/** Names of JDBC drivers whose {@code getParameterType} call failed before. */
+	static final Set<String> driversWithNoSupportForGetParameterType =
+			Collections.newSetFromMap(new ConcurrentHashMap<>(1));
+
 	private static final Log logger = LogFactory.getLog(StatementCreatorUtils.class);
 
 	private static final Map<Class<?>, Integer> javaTypeToSqlTypeMap = new HashMap<>(32);
@@ -242,7 +250,17 @@ public abstract class StatementCreatorUtils {
 		if (sqlType == SqlTypeValue.TYPE_UNKNOWN || (sqlType == Types.OTHER && typeName == null)) {
 			boolean useSetObject = false;
 			Integer sqlTypeToUse = null;
-			if (!shouldIgnoreGetParameterType) {
+			DatabaseMetaData dbmd = null;
+			String jdbcDriverName = null;
+			boolean checkGetParameterType = !shouldIgnoreGetParameterType;
+			if (checkGetParameterType && !driversWithNoSupportForGetParameterType.isEmpty()) {
+				// Skip the getParameterType call for drivers which failed it before
+				dbmd = ps.getConnection().getMetaData();
+				jdbcDriverName = dbmd.getDriverName();
+				checkGetParameterType = (jdbcDriverName == null ||
+						!driversWithNoSupportForGetParameterType.contains(jdbcDriverName));
+			}
+			if (checkGetParameterType) {
 				try {
 					sqlTypeToUse = ps.getParameterMetaData().getParameterType(paramIndex);
 				}
@@ -255,8 +273,13 @@ public abstract class StatementCreatorUtils {
 			if (sqlTypeToUse == null) {
 				// Proceed with database-specific checks
 				sqlTypeToUse = Types.NULL;
-				DatabaseMetaData dbmd = ps.getConnection().getMetaData();
-				String jdbcDriverName = dbmd.getDriverName();
+				if (dbmd == null) {
+					dbmd = ps.getConnection().getMetaData();
+					jdbcDriverName = dbmd.getDriverName();
+				}
+				if (checkGetParameterType && jdbcDriverName != null) {
+					driversWithNoSupportForGetParameterType.add(jdbcDriverName);
+				}
 				String databaseProductName = dbmd.getDatabaseProductName();
 				if (databaseProductName.startsWith("Informix") ||
 						(jdbcDriverName.startsWith("Microsoft") && jdbcDriverName.contains("SQL Server"))) {
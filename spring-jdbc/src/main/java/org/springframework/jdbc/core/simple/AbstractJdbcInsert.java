@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -88,6 +88,9 @@ public abstract class AbstractJdbcInsert {
 	/** The SQL type information for the insert columns. */
 	private int[] insertTypes = new int[0];
 
+	/** The maximum number of rows to insert per statement in a batch insert. */
+	private int rowsPerStatement = 1;
+
 
 	/**
 	 * Constructor to be used when initializing using a {@link DataSource}.
@@ -221,6 +224,31 @@ public abstract class AbstractJdbcInsert {
 		this.tableMetaDataContext.setOverrideIncludeSynonymsDefault(override);
 	}
 
+	/**
+	 * Set the maximum number of rows to insert with a single multi-row
+	 * {@code INSERT ... VALUES (...), (...)} statement in a batch insert.
+	 * <p>Default is 1, executing one statement per row via JDBC batching.
+	 * A higher value reduces the number of statements for drivers that send
+	 * a JDBC batch as individual statements. This requires a database that
+	 * supports multi-row VALUES lists (e.g. H2, HSQLDB, PostgreSQL, MySQL,
+	 * SQL Server), and the number of bind parameters per statement (rows
+	 * times columns) needs to stay within the limit of the JDBC driver.
+	 * @since 5.3.20
+	 */
+	public void setRowsPerStatement(int rowsPerStatement) {
+		checkIfConfigurationModificationIsAllowed();
+		Assert.isTrue(rowsPerStatement > 0, "Rows per statement must be greater than 0");
+		this.rowsPerStatement = rowsPerStatement;
+	}
+
+	/**
+	 * Get the maximum number of rows to insert per statement in a batch insert.
+	 * @since 5.3.20
+	 */
+	public int getRowsPerStatement() {
+		return this.rowsPerStatement;
+	}
+
 	/**
 	 * Get the insert string to be used.
 	 */
@@ -566,6 +594,10 @@ public abstract class AbstractJdbcInsert {
 	 * Delegate method to execute the batch insert.
 	 */
 	private int[] executeBatchInternal(final List<List<Object>> batchValues) {
+		int rowsPerStatement = Math.min(this.rowsPerStatement, batchValues.size());
+		if (rowsPerStatement > 1) {
+			return executeMultiRowBatchInternal(batchValues, rowsPerStatement);
+		}
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing statement " + getInsertString() + " with batch of size: " + batchValues.size());
 		}
@@ -582,6 +614,108 @@ public abstract class AbstractJdbcInsert {
 				});
 	}
 
+	/**
+	 * Delegate method to execute the batch insert with multi-row insert statements,
+	 * using a JDBC batch for all full statements followed by a single statement
+	 * for the remaining rows.
+	 */
+	private int[] executeMultiRowBatchInternal(final List<List<Object>> batchValues, final int rowsPerStatement) {
+		int[] rowCounts = new int[batchValues.size()];
+		int fullStatements = batchValues.size() / rowsPerStatement;
+		int remainingRows = batchValues.size() % rowsPerStatement;
+
+		if (fullStatements > 0) {
+			String insertString = createMultiRowInsertString(rowsPerStatement);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing statement " + getInsertString() + " with batch of " + fullStatements +
+						" statements of " + rowsPerStatement + " rows each");
+			}
+			long startTime = System.nanoTime();
+			int[] updateCounts = getJdbcTemplate().batchUpdate(insertString,
+					new BatchPreparedStatementSetter() {
+						@Override
+						public void setValues(PreparedStatement ps, int i) throws SQLException {
+							setMultiRowParameterValues(ps, batchValues.subList(
+									i * rowsPerStatement, (i + 1) * rowsPerStatement), getInsertTypes());
+						}
+						@Override
+						public int getBatchSize() {
+							return fullStatements;
+						}
+					});
+			logRowsInserted(fullStatements * rowsPerStatement, startTime);
+			for (int i = 0; i < updateCounts.length; i++) {
+				Arrays.fill(rowCounts, i * rowsPerStatement, (i + 1) * rowsPerStatement,
+						getRowCount(updateCounts[i], rowsPerStatement));
+			}
+		}
+
+		if (remainingRows > 0) {
+			int offset = fullStatements * rowsPerStatement;
+			long startTime = System.nanoTime();
+			int updateCount = getJdbcTemplate().update(createMultiRowInsertString(remainingRows),
+					ps -> setMultiRowParameterValues(ps, batchValues.subList(offset, batchValues.size()), getInsertTypes()));
+			logRowsInserted(remainingRows, startTime);
+			Arrays.fill(rowCounts, offset, batchValues.size(), getRowCount(updateCount, remainingRows));
+		}
+
+		return rowCounts;
+	}
+
+	/**
+	 * Create an insert string with a VALUES list for the given number of rows.
+	 */
+	private String createMultiRowInsertString(int rows) {
+		String insertString = getInsertString();
+		String row = insertString.substring(insertString.lastIndexOf(" VALUES") + 7);
+		StringBuilder sb = new StringBuilder(insertString.length() + (row.length() + 2) * (rows - 1));
+		sb.append(insertString);
+		for (int i = 1; i < rows; i++) {
+			sb.append(", ").append(row);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Derive the per-row count from the update count of a multi-row insert statement.
+	 */
+	private static int getRowCount(int updateCount, int rows) {
+		return (updateCount == rows ? 1 : Statement.SUCCESS_NO_INFO);
+	}
+
+	private void logRowsInserted(int rows, long startTime) {
+		if (logger.isDebugEnabled()) {
+			long millis = (System.nanoTime() - startTime) / 1_000_000;
+			logger.debug("Inserted " + rows + " rows in " + millis + " ms" +
+					(millis > 0 ? " (" + (rows * 1000L / millis) + " rows/s)" : ""));
+		}
+	}
+
+	/**
+	 * Internal implementation for setting parameter values of multiple rows
+	 * in a multi-row insert statement.
+	 * @param preparedStatement the PreparedStatement
+	 * @param rows the values to be set for each row
+	 */
+	private void setMultiRowParameterValues(PreparedStatement preparedStatement, List<List<Object>> rows,
+			@Nullable int... columnTypes) throws SQLException {
+
+		int paramIndex = 0;
+		for (List<Object> values : rows) {
+			int colIndex = 0;
+			for (Object value : values) {
+				colIndex++;
+				paramIndex++;
+				if (columnTypes == null || colIndex > columnTypes.length) {
+					StatementCreatorUtils.setParameterValue(preparedStatement, paramIndex, SqlTypeValue.TYPE_UNKNOWN, value);
+				}
+				else {
+					StatementCreatorUtils.setParameterValue(preparedStatement, paramIndex, columnTypes[colIndex - 1], value);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Internal implementation for setting parameter values.
 	 * @param preparedStatement the PreparedStatement
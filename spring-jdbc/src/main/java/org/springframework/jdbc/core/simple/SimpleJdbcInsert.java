@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -112,6 +112,20 @@ public class SimpleJdbcInsert extends AbstractJdbcInsert implements SimpleJdbcIn
 		return this;
 	}
 
+	/**
+	 * Specify the maximum number of rows to insert with a single multi-row
+	 * {@code INSERT ... VALUES (...), (...)} statement in a batch insert.
+	 * <p>This requires a database that supports multi-row VALUES lists.
+	 * @param rowsPerStatement the maximum number of rows per statement
+	 * @return the instance of this SimpleJdbcInsert
+	 * @since 5.3.20
+	 * @see #setRowsPerStatement
+	 */
+	public SimpleJdbcInsert withRowsPerStatement(int rowsPerStatement) {
+		setRowsPerStatement(rowsPerStatement);
+		return this;
+	}
+
 	@Override
 	public int execute(Map<String, ?> args) {
 		return doExecute(args);
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.LobRetrievalFailureException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.support.lob.LobHandler;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * ResultSetExtractor implementation that streams the content of a single BLOB
+ * or CLOB column to a given target, without materializing the LOB in memory.
+ * The content is copied through a buffer of fixed size, so the memory footprint
+ * does not depend on the size of the LOB.
+ *
+ * <p>Binary content can be copied to an {@link OutputStream} or to a
+ * {@link WritableByteChannel}, character content to a {@link Writer}.
+ * The target is not closed after copying; this remains the responsibility
+ * of the caller.
+ *
+ * <p>A usage example with JdbcTemplate:
+ *
+ * <pre class="code">JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);  // reusable object
+ * LobHandler lobHandler = new DefaultLobHandler();  // reusable object
+ *
+ * try (WritableByteChannel channel = Files.newByteChannel(path, WRITE, CREATE, TRUNCATE_EXISTING)) {
+ *	 Long bytesCopied = jdbcTemplate.query(
+ *			 "SELECT content FROM documents WHERE document_id=?",
+ *			 new LobStreamingResultSetExtractor(lobHandler, 1, channel),
+ *			 documentId);
+ * }</pre>
+ *
+ * <p>Like {@link AbstractLobStreamingResultSetExtractor}, this extractor expects
+ * exactly one row and converts an IOException thrown during streaming to a
+ * {@link LobRetrievalFailureException}.
+ *
+ * @since 5.3.20
+ * @see LobHandler#getBlobAsBinaryStream
+ * @see LobHandler#getClobAsCharacterStream
+ */
+public class LobStreamingResultSetExtractor implements ResultSetExtractor<Long> {
+
+	private final LobHandler lobHandler;
+
+	private final int columnIndex;
+
+	@Nullable
+	private final OutputStream outputStream;
+
+	@Nullable
+	private final WritableByteChannel channel;
+
+	@Nullable
+	private final Writer writer;
+
+	private int bufferSize = StreamUtils.BUFFER_SIZE;
+
+
+	/**
+	 * Create a new LobStreamingResultSetExtractor that copies the BLOB content
+	 * of the given column to the given OutputStream.
+	 * @param lobHandler the LobHandler to obtain the BLOB content with
+	 * @param columnIndex the index of the BLOB column
+	 * @param outputStream the OutputStream to copy to
+	 */
+	public LobStreamingResultSetExtractor(LobHandler lobHandler, int columnIndex, OutputStream outputStream) {
+		this(lobHandler, columnIndex, outputStream, null, null);
+		Assert.notNull(outputStream, "OutputStream must not be null");
+	}
+
+	/**
+	 * Create a new LobStreamingResultSetExtractor that copies the BLOB content
+	 * of the given column to the given WritableByteChannel.
+	 * @param lobHandler the LobHandler to obtain the BLOB content with
+	 * @param columnIndex the index of the BLOB column
+	 * @param channel the WritableByteChannel to copy to
+	 */
+	public LobStreamingResultSetExtractor(LobHandler lobHandler, int columnIndex, WritableByteChannel channel) {
+		this(lobHandler, columnIndex, null, channel, null);
+		Assert.notNull(channel, "WritableByteChannel must not be null");
+	}
+
+	/**
+	 * Create a new LobStreamingResultSetExtractor that copies the CLOB content
+	 * of the given column to the given Writer.
+	 * @param lobHandler the LobHandler to obtain the CLOB content with
+	 * @param columnIndex the index of the CLOB column
+	 * @param writer the Writer to copy to
+	 */
+	public LobStreamingResultSetExtractor(LobHandler lobHandler, int columnIndex, Writer writer) {
+		this(lobHandler, columnIndex, null, null, writer);
+		Assert.notNull(writer, "Writer must not be null");
+	}
+
+	private LobStreamingResultSetExtractor(LobHandler lobHandler, int columnIndex,
+			@Nullable OutputStream outputStream, @Nullable WritableByteChannel channel, @Nullable Writer writer) {
+
+		Assert.notNull(lobHandler, "LobHandler must not be null");
+		this.lobHandler = lobHandler;
+		this.columnIndex = columnIndex;
+		this.outputStream = outputStream;
+		this.channel = channel;
+		this.writer = writer;
+	}
+
+
+	/**
+	 * Set the size of the buffer to copy the LOB content through,
+	 * in bytes or characters respectively.
+	 * <p>Default is {@link StreamUtils#BUFFER_SIZE}.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "Buffer size must be greater than 0");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Return the size of the buffer to copy the LOB content through.
+	 */
+	public int getBufferSize() {
+		return this.bufferSize;
+	}
+
+
+	/**
+	 * Copy the LOB content of the single row to the target.
+	 * @return the number of bytes or characters copied,
+	 * or {@code null} if the LOB column was SQL {@code NULL}
+	 * @throws EmptyResultDataAccessException if the ResultSet does not contain a row
+	 * @throws IncorrectResultSizeDataAccessException if the ResultSet contains multiple rows
+	 * @throws LobRetrievalFailureException if the LOB content could not be copied
+	 */
+	@Override
+	@Nullable
+	public Long extractData(ResultSet rs) throws SQLException, DataAccessException {
+		if (!rs.next()) {
+			throw new EmptyResultDataAccessException(
+					"LobStreamingResultSetExtractor did not find row in database", 1);
+		}
+		Long count;
+		try {
+			count = streamData(rs);
+		}
+		catch (IOException ex) {
+			throw new LobRetrievalFailureException("Could not stream LOB content", ex);
+		}
+		if (rs.next()) {
+			throw new IncorrectResultSizeDataAccessException(
+					"LobStreamingResultSetExtractor found multiple rows in database", 1);
+		}
+		return count;
+	}
+
+	@Nullable
+	private Long streamData(ResultSet rs) throws SQLException, IOException {
+		if (this.writer != null) {
+			Reader reader = this.lobHandler.getClobAsCharacterStream(rs, this.columnIndex);
+			if (reader == null) {
+				return null;
+			}
+			try (Reader in = reader) {
+				return copy(in, this.writer);
+			}
+		}
+		InputStream inputStream = this.lobHandler.getBlobAsBinaryStream(rs, this.columnIndex);
+		if (inputStream == null) {
+			return null;
+		}
+		try (InputStream in = inputStream) {
+			if (this.channel != null) {
+				return copy(Channels.newChannel(in), this.channel);
+			}
+			Assert.state(this.outputStream != null, "No OutputStream");
+			return copy(in, this.outputStream);
+		}
+	}
+
+	private long copy(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[this.bufferSize];
+		long count = 0;
+		int bytesRead;
+		while ((bytesRead = in.read(buffer)) != -1) {
+			out.write(buffer, 0, bytesRead);
+			count += bytesRead;
+		}
+		out.flush();
+		return count;
+	}
+
+	private long copy(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(this.bufferSize);
+		long count = 0;
+		while (in.read(buffer) != -1) {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				count += out.write(buffer);
+			}
+			buffer.clear();
+		}
+		return count;
+	}
+
+	private long copy(Reader in, Writer out) throws IOException {
+		char[] buffer = new char[this.bufferSize];
+		long count = 0;
+		int charsRead;
+		while ((charsRead = in.read(buffer)) != -1) {
+			out.write(buffer, 0, charsRead);
+			count += charsRead;
+		}
+		out.flush();
+		return count;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -69,6 +69,13 @@ import org.springframework.lang.Nullable;
  * You will get the same effect with non-transactional reads, but lazy fetching
  * of JDBC Connections allows you to still perform reads in transactions.
  *
+ * <p>As of 5.3.20, this DataSource proxy can also route read-only operations
+ * to a separate DataSource, e.g. a read replica of the primary database: see
+ * {@link #setReadOnlyDataSource}. Since the actual JDBC Connection is fetched
+ * lazily, a read-only flag set on the Connection handle beforehand (as done by
+ * {@link DataSourceTransactionManager} for transactions marked as read-only)
+ * determines which DataSource the actual Connection is fetched from.
+ *
  * <p><b>NOTE:</b> This DataSource proxy needs to return wrapped Connections
  * (which implement the {@link ConnectionProxy} interface) in order to handle
  * lazy fetching of an actual JDBC Connection. Use {@link Connection#unwrap}
@@ -85,6 +92,9 @@ public class LazyConnectionDataSourceProxy extends DelegatingDataSource {
 
 	private static final Log logger = LogFactory.getLog(LazyConnectionDataSourceProxy.class);
 
+	@Nullable
+	private DataSource readOnlyDataSource;
+
 	@Nullable
 	private Boolean defaultAutoCommit;
 
@@ -109,6 +119,38 @@ public class LazyConnectionDataSourceProxy extends DelegatingDataSource {
 	}
 
 
+	/**
+	 * Specify a variant of the target DataSource to use for read-only operations,
+	 * e.g. a DataSource for a read replica of the primary database.
+	 * <p>An actual JDBC Connection is fetched from this DataSource (instead of
+	 * from the target DataSource) if the Connection handle has been marked as
+	 * read-only before the first Statement is created, typically through a
+	 * transaction marked as read-only, e.g. {@code @Transactional(readOnly = true)}.
+	 * Connections which are not marked as read-only at that point, including
+	 * non-transactional ones, always come from the target DataSource.
+	 * <p>To balance read-only operations across several replicas, specify an
+	 * {@link org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource}
+	 * or a load-balancing DataSource provided by the JDBC driver or pool here.
+	 * <p>Note that the default auto-commit and transaction isolation settings are
+	 * determined from the target DataSource and are expected to match here.
+	 * @param readOnlyDataSource the DataSource for read-only operations,
+	 * or {@code null} to use the target DataSource for all operations
+	 * @since 5.3.20
+	 * @see java.sql.Connection#setReadOnly
+	 */
+	public void setReadOnlyDataSource(@Nullable DataSource readOnlyDataSource) {
+		this.readOnlyDataSource = readOnlyDataSource;
+	}
+
+	/**
+	 * Return the DataSource to use for read-only operations, if any.
+	 * @since 5.3.20
+	 */
+	@Nullable
+	public DataSource getReadOnlyDataSource() {
+		return this.readOnlyDataSource;
+	}
+
 	/**
 	 * Set the default auto-commit mode to expose when no target Connection
 	 * has been fetched yet (when the actual JDBC Connection default is not known yet).
@@ -400,9 +442,12 @@ public class LazyConnectionDataSourceProxy extends DelegatingDataSource {
 				}
 
 				// Fetch physical Connection from DataSource.
+				DataSource readOnlyDataSource = getReadOnlyDataSource();
+				DataSource dataSource = (this.readOnly && readOnlyDataSource != null ?
+						readOnlyDataSource : obtainTargetDataSource());
 				this.target = (this.username != null) ?
-						obtainTargetDataSource().getConnection(this.username, this.password) :
-						obtainTargetDataSource().getConnection();
+						dataSource.getConnection(this.username, this.password) :
+						dataSource.getConnection();
 
 				// If we still lack default connection properties, check them now.
 				checkDefaultConnectionProperties(this.target);
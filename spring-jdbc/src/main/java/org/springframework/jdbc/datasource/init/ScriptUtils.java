@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,15 @@ package org.springframework.jdbc.datasource.init;
 
 import java.io.IOException;
 import java.io.LineNumberReader;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -99,6 +102,25 @@ public abstract class ScriptUtils {
 	public static final String DEFAULT_BLOCK_COMMENT_END_DELIMITER = "*/";
 
 
+	/**
+	 * Maximum number of consecutive DML statements sent to the database
+	 * as a single JDBC batch: {@value}.
+	 */
+	private static final int MAX_BATCH_SIZE = 1000;
+
+	/**
+	 * Pattern matching {@code INSERT}, {@code UPDATE} and {@code DELETE} statements.
+	 */
+	private static final Pattern DML_STATEMENT_PATTERN =
+			Pattern.compile("^(insert|update|delete)\\b", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * Pattern matching a {@code RETURNING} clause, which makes a DML statement
+	 * produce a result set and therefore unsuitable for batching.
+	 */
+	private static final Pattern RETURNING_CLAUSE_PATTERN =
+			Pattern.compile("\\breturning\\b", Pattern.CASE_INSENSITIVE);
+
 	private static final Log logger = LogFactory.getLog(ScriptUtils.class);
 
 
@@ -194,6 +216,12 @@ public abstract class ScriptUtils {
 	 * Execute the given SQL script.
 	 * <p>Statement separators and comments will be removed before executing
 	 * individual statements within the supplied script.
+	 * <p>As of 5.3.20, consecutive {@code INSERT}, {@code UPDATE} and {@code DELETE}
+	 * statements are sent to the database as JDBC batches of up to 1000 statements
+	 * if the driver supports batch updates, unless {@code continueOnError} is
+	 * {@code true}, in which case each statement is executed individually so that
+	 * failures can be skipped. Statements with a {@code RETURNING} clause are
+	 * always executed individually.
 	 * <p><strong>Warning</strong>: this method does <em>not</em> release the
 	 * provided {@link Connection}.
 	 * @param connection the JDBC connection to use to execute the script; already
@@ -252,23 +280,30 @@ public abstract class ScriptUtils {
 			splitSqlScript(resource, script, separator, commentPrefixes, blockCommentStartDelimiter,
 					blockCommentEndDelimiter, statements);
 
+			boolean batchDml = (!continueOnError && supportsBatchUpdates(connection));
+			List<String> batch = new ArrayList<>();
 			int stmtNumber = 0;
 			Statement stmt = connection.createStatement();
 			try {
 				for (String statement : statements) {
 					stmtNumber++;
+					if (batchDml && isDmlStatement(statement)) {
+						stmt.addBatch(statement);
+						batch.add(statement);
+						if (batch.size() >= MAX_BATCH_SIZE) {
+							executeBatch(stmt, batch, stmtNumber - batch.size(), resource);
+						}
+						continue;
+					}
+					if (!batch.isEmpty()) {
+						executeBatch(stmt, batch, stmtNumber - 1 - batch.size(), resource);
+					}
 					try {
 						stmt.execute(statement);
 						int rowsAffected = stmt.getUpdateCount();
 						if (logger.isDebugEnabled()) {
 							logger.debug(rowsAffected + " returned as update count for SQL: " + statement);
-							SQLWarning warningToLog = stmt.getWarnings();
-							while (warningToLog != null) {
-								logger.debug("SQLWarning ignored: SQL state '" + warningToLog.getSQLState() +
-										"', error code '" + warningToLog.getErrorCode() +
-										"', message [" + warningToLog.getMessage() + "]");
-								warningToLog = warningToLog.getNextWarning();
-							}
+							logWarnings(stmt);
 						}
 					}
 					catch (SQLException ex) {
@@ -283,6 +318,9 @@ public abstract class ScriptUtils {
 						}
 					}
 				}
+				if (!batch.isEmpty()) {
+					executeBatch(stmt, batch, stmtNumber - batch.size(), resource);
+				}
 			}
 			finally {
 				try {
@@ -307,6 +345,77 @@ public abstract class ScriptUtils {
 		}
 	}
 
+	/**
+	 * Execute the given batch of statements, clearing it afterwards.
+	 * @param stmt the JDBC Statement holding the batch
+	 * @param batch the statements added to the batch
+	 * @param stmtOffset the number of statements in the script preceding the batch
+	 * @param resource the resource the statements were loaded from
+	 */
+	private static void executeBatch(Statement stmt, List<String> batch, int stmtOffset,
+			EncodedResource resource) throws SQLException {
+
+		try {
+			int[] rowsAffected = stmt.executeBatch();
+			if (logger.isDebugEnabled()) {
+				// Same per-statement logging as for statements executed individually
+				for (int i = 0; i < batch.size(); i++) {
+					logger.debug((i < rowsAffected.length ? rowsAffected[i] : Statement.SUCCESS_NO_INFO) +
+							" returned as update count for SQL: " + batch.get(i));
+				}
+				logWarnings(stmt);
+			}
+		}
+		catch (BatchUpdateException ex) {
+			// Drivers either stop at the first failed statement or mark it as failed.
+			int[] rowsAffected = ex.getUpdateCounts();
+			int failed = (rowsAffected != null ? rowsAffected.length : 0);
+			for (int i = 0; i < failed; i++) {
+				if (rowsAffected[i] == Statement.EXECUTE_FAILED) {
+					failed = i;
+					break;
+				}
+			}
+			failed = Math.min(failed, batch.size() - 1);
+			throw new ScriptStatementFailedException(batch.get(failed), stmtOffset + failed + 1, resource, ex);
+		}
+		finally {
+			batch.clear();
+		}
+	}
+
+	private static void logWarnings(Statement stmt) throws SQLException {
+		SQLWarning warningToLog = stmt.getWarnings();
+		while (warningToLog != null) {
+			logger.debug("SQLWarning ignored: SQL state '" + warningToLog.getSQLState() +
+					"', error code '" + warningToLog.getErrorCode() +
+					"', message [" + warningToLog.getMessage() + "]");
+			warningToLog = warningToLog.getNextWarning();
+		}
+	}
+
+	/**
+	 * Determine whether the given statement is an {@code INSERT}, {@code UPDATE}
+	 * or {@code DELETE} statement which may be executed as part of a batch,
+	 * i.e. one without a {@code RETURNING} clause.
+	 */
+	private static boolean isDmlStatement(String statement) {
+		String trimmed = statement.trim();
+		return (DML_STATEMENT_PATTERN.matcher(trimmed).find() &&
+				!RETURNING_CLAUSE_PATTERN.matcher(trimmed).find());
+	}
+
+	private static boolean supportsBatchUpdates(Connection connection) {
+		try {
+			DatabaseMetaData metaData = connection.getMetaData();
+			return (metaData != null && metaData.supportsBatchUpdates());
+		}
+		catch (SQLException ex) {
+			logger.debug("JDBC driver 'supportsBatchUpdates' method threw exception", ex);
+			return false;
+		}
+	}
+
 	/**
 	 * Read a script from the provided resource, using the supplied comment prefixes
 	 * and statement separator, and build a {@code String} containing the lines.
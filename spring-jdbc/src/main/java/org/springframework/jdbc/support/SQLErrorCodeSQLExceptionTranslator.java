@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -234,45 +234,31 @@ public class SQLErrorCodeSQLExceptionTranslator extends AbstractFallbackSQLExcep
 					}
 				}
 				// Next, look for grouped error codes.
-				if (Arrays.binarySearch(sqlErrorCodes.getBadSqlGrammarCodes(), errorCode) >= 0) {
+				SQLErrorCodes.ErrorCodeCategory category = sqlErrorCodes.getErrorCodeCategory(errorCode);
+				if (category != null) {
 					logTranslation(task, sql, sqlEx, false);
-					return new BadSqlGrammarException(task, (sql != null ? sql : ""), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getInvalidResultSetAccessCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new InvalidResultSetAccessException(task, (sql != null ? sql : ""), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getDuplicateKeyCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new DuplicateKeyException(buildMessage(task, sql, sqlEx), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getDataIntegrityViolationCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new DataIntegrityViolationException(buildMessage(task, sql, sqlEx), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getPermissionDeniedCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new PermissionDeniedDataAccessException(buildMessage(task, sql, sqlEx), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getDataAccessResourceFailureCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new DataAccessResourceFailureException(buildMessage(task, sql, sqlEx), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getTransientDataAccessResourceCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new TransientDataAccessResourceException(buildMessage(task, sql, sqlEx), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getCannotAcquireLockCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new CannotAcquireLockException(buildMessage(task, sql, sqlEx), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getDeadlockLoserCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new DeadlockLoserDataAccessException(buildMessage(task, sql, sqlEx), sqlEx);
-				}
-				else if (Arrays.binarySearch(sqlErrorCodes.getCannotSerializeTransactionCodes(), errorCode) >= 0) {
-					logTranslation(task, sql, sqlEx, false);
-					return new CannotSerializeTransactionException(buildMessage(task, sql, sqlEx), sqlEx);
+					switch (category) {
+						case BAD_SQL_GRAMMAR:
+							return new BadSqlGrammarException(task, (sql != null ? sql : ""), sqlEx);
+						case INVALID_RESULT_SET_ACCESS:
+							return new InvalidResultSetAccessException(task, (sql != null ? sql : ""), sqlEx);
+						case DUPLICATE_KEY:
+							return new DuplicateKeyException(buildMessage(task, sql, sqlEx), sqlEx);
+						case DATA_INTEGRITY_VIOLATION:
+							return new DataIntegrityViolationException(buildMessage(task, sql, sqlEx), sqlEx);
+						case PERMISSION_DENIED:
+							return new PermissionDeniedDataAccessException(buildMessage(task, sql, sqlEx), sqlEx);
+						case DATA_ACCESS_RESOURCE_FAILURE:
+							return new DataAccessResourceFailureException(buildMessage(task, sql, sqlEx), sqlEx);
+						case TRANSIENT_DATA_ACCESS_RESOURCE:
+							return new TransientDataAccessResourceException(buildMessage(task, sql, sqlEx), sqlEx);
+						case CANNOT_ACQUIRE_LOCK:
+							return new CannotAcquireLockException(buildMessage(task, sql, sqlEx), sqlEx);
+						case DEADLOCK_LOSER:
+							return new DeadlockLoserDataAccessException(buildMessage(task, sql, sqlEx), sqlEx);
+						case CANNOT_SERIALIZE_TRANSACTION:
+							return new CannotSerializeTransactionException(buildMessage(task, sql, sqlEx), sqlEx);
+					}
 				}
 			}
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package org.springframework.jdbc.support;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -66,6 +69,10 @@ public class SQLErrorCodes {
 	@Nullable
 	private SQLExceptionTranslator customSqlExceptionTranslator;
 
+	/** Categories per error code, lazily compiled from the code arrays above. */
+	@Nullable
+	private volatile Map<String, ErrorCodeCategory> errorCodeCategories;
+
 
 	/**
 	 * Set this property if the database name contains spaces,
@@ -108,6 +115,7 @@ public class SQLErrorCodes {
 
 	public void setBadSqlGrammarCodes(String... badSqlGrammarCodes) {
 		this.badSqlGrammarCodes = StringUtils.sortStringArray(badSqlGrammarCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getBadSqlGrammarCodes() {
@@ -116,6 +124,7 @@ public class SQLErrorCodes {
 
 	public void setInvalidResultSetAccessCodes(String... invalidResultSetAccessCodes) {
 		this.invalidResultSetAccessCodes = StringUtils.sortStringArray(invalidResultSetAccessCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getInvalidResultSetAccessCodes() {
@@ -128,10 +137,12 @@ public class SQLErrorCodes {
 
 	public void setDuplicateKeyCodes(String... duplicateKeyCodes) {
 		this.duplicateKeyCodes = duplicateKeyCodes;
+		this.errorCodeCategories = null;
 	}
 
 	public void setDataIntegrityViolationCodes(String... dataIntegrityViolationCodes) {
 		this.dataIntegrityViolationCodes = StringUtils.sortStringArray(dataIntegrityViolationCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getDataIntegrityViolationCodes() {
@@ -140,6 +151,7 @@ public class SQLErrorCodes {
 
 	public void setPermissionDeniedCodes(String... permissionDeniedCodes) {
 		this.permissionDeniedCodes = StringUtils.sortStringArray(permissionDeniedCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getPermissionDeniedCodes() {
@@ -148,6 +160,7 @@ public class SQLErrorCodes {
 
 	public void setDataAccessResourceFailureCodes(String... dataAccessResourceFailureCodes) {
 		this.dataAccessResourceFailureCodes = StringUtils.sortStringArray(dataAccessResourceFailureCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getDataAccessResourceFailureCodes() {
@@ -156,6 +169,7 @@ public class SQLErrorCodes {
 
 	public void setTransientDataAccessResourceCodes(String... transientDataAccessResourceCodes) {
 		this.transientDataAccessResourceCodes = StringUtils.sortStringArray(transientDataAccessResourceCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getTransientDataAccessResourceCodes() {
@@ -164,6 +178,7 @@ public class SQLErrorCodes {
 
 	public void setCannotAcquireLockCodes(String... cannotAcquireLockCodes) {
 		this.cannotAcquireLockCodes = StringUtils.sortStringArray(cannotAcquireLockCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getCannotAcquireLockCodes() {
@@ -172,6 +187,7 @@ public class SQLErrorCodes {
 
 	public void setDeadlockLoserCodes(String... deadlockLoserCodes) {
 		this.deadlockLoserCodes = StringUtils.sortStringArray(deadlockLoserCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getDeadlockLoserCodes() {
@@ -180,6 +196,7 @@ public class SQLErrorCodes {
 
 	public void setCannotSerializeTransactionCodes(String... cannotSerializeTransactionCodes) {
 		this.cannotSerializeTransactionCodes = StringUtils.sortStringArray(cannotSerializeTransactionCodes);
+		this.errorCodeCategories = null;
 	}
 
 	public String[] getCannotSerializeTransactionCodes() {
@@ -219,4 +236,69 @@ public class SQLErrorCodes {
 		return this.customSqlExceptionTranslator;
 	}
 
+	/**
+	 * Determine the category of the given error code, honoring the precedence
+	 * of the categories in case of a code registered for several of them.
+	 * <p>The underlying lookup table is compiled on first access and discarded
+	 * whenever one of the code arrays is replaced.
+	 * @param errorCode the error code (or SQL state) to look up
+	 * @return the corresponding category, or {@code null} if none
+	 * @since 5.3.20
+	 */
+	@Nullable
+	ErrorCodeCategory getErrorCodeCategory(String errorCode) {
+		Map<String, ErrorCodeCategory> categories = this.errorCodeCategories;
+		if (categories == null) {
+			categories = new HashMap<>();
+			addErrorCodeCategory(categories, this.badSqlGrammarCodes, ErrorCodeCategory.BAD_SQL_GRAMMAR);
+			addErrorCodeCategory(categories, this.invalidResultSetAccessCodes, ErrorCodeCategory.INVALID_RESULT_SET_ACCESS);
+			addErrorCodeCategory(categories, this.duplicateKeyCodes, ErrorCodeCategory.DUPLICATE_KEY);
+			addErrorCodeCategory(categories, this.dataIntegrityViolationCodes, ErrorCodeCategory.DATA_INTEGRITY_VIOLATION);
+			addErrorCodeCategory(categories, this.permissionDeniedCodes, ErrorCodeCategory.PERMISSION_DENIED);
+			addErrorCodeCategory(categories, this.dataAccessResourceFailureCodes, ErrorCodeCategory.DATA_ACCESS_RESOURCE_FAILURE);
+			addErrorCodeCategory(categories, this.transientDataAccessResourceCodes, ErrorCodeCategory.TRANSIENT_DATA_ACCESS_RESOURCE);
+			addErrorCodeCategory(categories, this.cannotAcquireLockCodes, ErrorCodeCategory.CANNOT_ACQUIRE_LOCK);
+			addErrorCodeCategory(categories, this.deadlockLoserCodes, ErrorCodeCategory.DEADLOCK_LOSER);
+			addErrorCodeCategory(categories, this.cannotSerializeTransactionCodes, ErrorCodeCategory.CANNOT_SERIALIZE_TRANSACTION);
+			this.errorCodeCategories = categories;
+		}
+		return categories.get(errorCode);
+	}
+
+	private static void addErrorCodeCategory(
+			Map<String, ErrorCodeCategory> categories, String[] errorCodes, ErrorCodeCategory category) {
+
+		for (String errorCode : errorCodes) {
+			categories.putIfAbsent(errorCode, category);
+		}
+	}
+
+
+	/**
+	 * Categories of error codes, in order of precedence.
+	 * @since 5.3.20
+	 */
+	enum ErrorCodeCategory {
+
+		BAD_SQL_GRAMMAR,
+
+		INVALID_RESULT_SET_ACCESS,
+
+		DUPLICATE_KEY,
+
+		DATA_INTEGRITY_VIOLATION,
+
+		PERMISSION_DENIED,
+
+		DATA_ACCESS_RESOURCE_FAILURE,
+
+		TRANSIENT_DATA_ACCESS_RESOURCE,
+
+		CANNOT_ACQUIRE_LOCK,
+
+		DEADLOCK_LOSER,
+
+		CANNOT_SERIALIZE_TRANSACTION
+	}
+
 }
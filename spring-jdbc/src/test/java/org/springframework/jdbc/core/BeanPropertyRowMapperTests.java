@@ -34,6 +34,8 @@ import org.springframework.jdbc.core.test.SpacePerson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link BeanPropertyRowMapper}.
@@ -80,6 +82,37 @@ class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 		mock.verifyClosed();
 	}
 
+	@Test
+	void mappingWithDifferentColumnsForSameMapper() throws Exception {
+		BeanPropertyRowMapper<ConcretePerson> mapper = new BeanPropertyRowMapper<>(ConcretePerson.class, true);
+
+		Mock mock = new Mock();
+		List<ConcretePerson> result = mock.getJdbcTemplate().query(
+				"select name, age, birth_date, balance from people", mapper);
+		assertThat(result).hasSize(1);
+		verifyPerson(result.get(0));
+
+		mock = new Mock(MockType.FOUR);
+		result = mock.getJdbcTemplate().query(
+				"select name, age, birthdate, balance from people", mapper);
+		assertThat(result).hasSize(1);
+		verifyPerson(result.get(0));
+	}
+
+	@Test
+	void mappingWithMultipleRowsResolvesColumnsOnce() throws Exception {
+		Mock mock = new Mock();
+		given(mock.getResultSet().next()).willReturn(true, true, true, false);
+		List<Person> result = mock.getJdbcTemplate().query(
+				"select name, age, birth_date, balance from people",
+				new BeanPropertyRowMapper<>(Person.class));
+		assertThat(result).hasSize(3);
+		for (Person person : result) {
+			verifyPerson(person);
+		}
+		verify(mock.getResultSet()).getMetaData();
+	}
+
 	@Test
 	void mappingWithNoUnpopulatedFieldsFound() throws Exception {
 		Mock mock = new Mock();
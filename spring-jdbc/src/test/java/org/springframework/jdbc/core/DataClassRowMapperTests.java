@@ -28,6 +28,9 @@ import org.springframework.jdbc.core.test.ConstructorPersonWithGenerics;
 import org.springframework.jdbc.core.test.ConstructorPersonWithSetters;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Juergen Hoeller
@@ -79,4 +82,45 @@ public class DataClassRowMapperTests extends AbstractRowMapperTests {
 		mock.verifyClosed();
 	}
 
+	@Test
+	public void testStaticQueryWithDifferentColumnsForSameMapper() throws Exception {
+		DataClassRowMapper<ConstructorPersonWithSetters> mapper =
+				new DataClassRowMapper<>(ConstructorPersonWithSetters.class);
+
+		Mock mock = new Mock(MockType.FOUR);
+		List<ConstructorPersonWithSetters> result = mock.getJdbcTemplate().query(
+				"select name, age, birthdate, balance from people", mapper);
+		assertThat(result.size()).isEqualTo(1);
+		assertThat(result.get(0).birthDate()).usingComparator(Date::compareTo).isEqualTo(new java.util.Date(1221222L));
+
+		mock = new Mock();
+		result = mock.getJdbcTemplate().query(
+				"select name, age, birth_date, balance from people", mapper);
+		assertThat(result.size()).isEqualTo(1);
+		assertThat(result.get(0).birthDate()).usingComparator(Date::compareTo).isEqualTo(new java.util.Date(1221222L));
+	}
+
+	@Test
+	public void testStaticQueryWithLowerCaseAndUnderscoredColumns() throws Exception {
+		DataClassRowMapper<ConstructorPersonWithSetters> mapper =
+				new DataClassRowMapper<>(ConstructorPersonWithSetters.class);
+
+		Mock mock = new Mock();
+		List<ConstructorPersonWithSetters> result = mock.getJdbcTemplate().query(
+				"select name, age, birth_date, balance from people", mapper);
+		assertThat(result.size()).isEqualTo(1);
+
+		mock = new Mock(MockType.FOUR);
+		given(mock.getResultSet().next()).willReturn(true, true, false);
+		given(mock.getResultSet().findColumn("birth_date")).willReturn(5);
+		result = mock.getJdbcTemplate().query(
+				"select name, age, birthdate, balance, birth_date from people", mapper);
+		assertThat(result.size()).isEqualTo(2);
+		for (ConstructorPersonWithSetters person : result) {
+			assertThat(person.birthDate()).usingComparator(Date::compareTo).isEqualTo(new java.util.Date(1221222L));
+		}
+		verify(mock.getResultSet()).findColumn("birthdate");
+		verify(mock.getResultSet(), never()).findColumn("birth_date");
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.sql.DataSource;
@@ -182,6 +183,21 @@ public class JdbcTemplateQueryTests {
 		verify(this.statement).close();
 	}
 
+	@Test
+	public void testQueryForStreamWithRowMapperInParallel() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID < 6";
+		given(this.resultSet.next()).willReturn(true, true, true, true, true, false);
+		given(this.resultSet.getFetchSize()).willReturn(2);
+		given(this.resultSet.getInt(1)).willReturn(11, 12, 13, 14, 15);
+		List<Integer> result;
+		try (Stream<Integer> s = this.template.queryForStream(sql, (rs, rowNum) -> rs.getInt(1))) {
+			result = s.parallel().map(val -> val * 2).collect(Collectors.toList());
+		}
+		assertThat(result).containsExactly(22, 24, 26, 28, 30);
+		verify(this.resultSet).close();
+		verify(this.statement).close();
+	}
+
 	@Test
 	public void testQueryForObjectWithString() throws Exception {
 		String sql = "SELECT AGE FROM CUSTMR WHERE ID = 3";
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -116,6 +117,27 @@ public class StatementCreatorUtilsTests {
 		verify(preparedStatement).setNull(1, Types.SMALLINT);
 	}
 
+	@Test
+	public void testSetParameterValueWithNullAndGetParameterTypeFailing() throws SQLException {
+		Connection con = mock(Connection.class);
+		DatabaseMetaData dbmd = mock(DatabaseMetaData.class);
+		given(preparedStatement.getConnection()).willReturn(con);
+		given(con.getMetaData()).willReturn(dbmd);
+		given(dbmd.getDatabaseProductName()).willReturn("MyDB");
+		given(dbmd.getDriverName()).willReturn("MyDB Driver");
+		given(preparedStatement.getParameterMetaData()).willThrow(new SQLException("unsupported"));
+		try {
+			StatementCreatorUtils.setParameterValue(preparedStatement, 1, SqlTypeValue.TYPE_UNKNOWN, null, null);
+			StatementCreatorUtils.setParameterValue(preparedStatement, 2, SqlTypeValue.TYPE_UNKNOWN, null, null);
+			verify(preparedStatement, times(1)).getParameterMetaData();
+			verify(preparedStatement).setNull(1, Types.NULL);
+			verify(preparedStatement).setNull(2, Types.NULL);
+		}
+		finally {
+			StatementCreatorUtils.driversWithNoSupportForGetParameterType.clear();
+		}
+	}
+
 	@Test
 	public void testSetParameterValueWithString() throws SQLException {
 		StatementCreatorUtils.setParameterValue(preparedStatement, 1, Types.VARCHAR, null, "test");
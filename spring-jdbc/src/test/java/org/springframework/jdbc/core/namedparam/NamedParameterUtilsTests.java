@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.jdbc.core.namedparam;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -70,6 +71,21 @@ public class NamedParameterUtilsTests {
 		assertThat(NamedParameterUtils.substituteNamedParameters("xxx :a :b :c xx :a :a", namedParams)).isEqualTo("xxx ? ? ? xx ? ?");
 	}
 
+	@Test
+	public void substituteNamedParametersWithSameParsedSql() {
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement("xxx :a :b xx :c");
+		MapSqlParameterSource namedParams = new MapSqlParameterSource();
+		namedParams.addValue("a", "a").addValue("b", "b").addValue("c", "c");
+		String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, namedParams);
+		assertThat(sql).isEqualTo("xxx ? ? xx ?");
+		assertThat(NamedParameterUtils.substituteNamedParameters(parsedSql, namedParams)).isSameAs(sql);
+
+		namedParams.addValue("b", Arrays.asList("b1", "b2"));
+		assertThat(NamedParameterUtils.substituteNamedParameters(parsedSql, namedParams)).isEqualTo("xxx ? ?, ? xx ?");
+		namedParams.addValue("b", "b");
+		assertThat(NamedParameterUtils.substituteNamedParameters(parsedSql, namedParams)).isSameAs(sql);
+	}
+
 	@Test
 	public void convertParamMapToArray() {
 		Map<String, String> paramMap = new HashMap<>();
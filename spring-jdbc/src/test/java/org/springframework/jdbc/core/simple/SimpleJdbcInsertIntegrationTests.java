@@ -0,0 +1,94 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for batch inserts with {@link SimpleJdbcInsert}
+ * against embedded databases.
+ */
+class SimpleJdbcInsertIntegrationTests {
+
+	@ParameterizedTest
+	@EnumSource(value = EmbeddedDatabaseType.class, names = {"H2", "HSQL"})
+	void executeBatchWithSingleRowStatements(EmbeddedDatabaseType type) {
+		assertBatchInsert(type, 1, 7);
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = EmbeddedDatabaseType.class, names = {"H2", "HSQL"})
+	void executeBatchWithMultiRowStatements(EmbeddedDatabaseType type) {
+		assertBatchInsert(type, 3, 7);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 2, 5, 10})
+	void executeBatchWithMultiRowStatementsAndRowCount(int rows) {
+		assertBatchInsert(EmbeddedDatabaseType.HSQL, 5, rows);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertBatchInsert(EmbeddedDatabaseType type, int rowsPerStatement, int rows) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+				.setType(type)
+				.generateUniqueName(true)
+				.build();
+		try {
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+			jdbcTemplate.execute("CREATE TABLE person (id INTEGER PRIMARY KEY, name VARCHAR(50))");
+
+			SimpleJdbcInsert insert = new SimpleJdbcInsert(database)
+					.withTableName("person")
+					.usingColumns("id", "name")
+					.withRowsPerStatement(rowsPerStatement);
+			Map<String, Object>[] batch = new Map[rows];
+			for (int i = 0; i < rows; i++) {
+				Map<String, Object> args = new HashMap<>();
+				args.put("id", i);
+				args.put("name", "name" + i);
+				batch[i] = args;
+			}
+
+			int[] rowCounts = insert.executeBatch(batch);
+			assertThat(rowCounts).hasSize(rows).containsOnly(1);
+
+			List<String> names = jdbcTemplate.queryForList("SELECT name FROM person ORDER BY id", String.class);
+			assertThat(names).hasSize(rows);
+			for (int i = 0; i < rows; i++) {
+				assertThat(names.get(i)).isEqualTo("name" + i);
+			}
+		}
+		finally {
+			database.shutdown();
+		}
+	}
+
+}
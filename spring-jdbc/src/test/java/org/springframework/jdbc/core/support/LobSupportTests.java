@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,14 @@
 
 package org.springframework.jdbc.core.support;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -24,6 +31,7 @@ import java.sql.SQLException;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.LobRetrievalFailureException;
 import org.springframework.jdbc.support.lob.LobCreator;
@@ -31,6 +39,7 @@ import org.springframework.jdbc.support.lob.LobHandler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -110,6 +119,87 @@ public class LobSupportTests {
 				lobRse.extractData(rset));
 	}
 
+	@Test
+	public void testLobStreamingResultSetExtractorToOutputStream() throws SQLException {
+		byte[] content = new byte[10000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		ResultSet rset = mock(ResultSet.class);
+		given(rset.next()).willReturn(true, false);
+		LobHandler handler = mock(LobHandler.class);
+		given(handler.getBlobAsBinaryStream(rset, 1)).willReturn(new ByteArrayInputStream(content));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		LobStreamingResultSetExtractor lobRse = new LobStreamingResultSetExtractor(handler, 1, out);
+		lobRse.setBufferSize(1024);
+		assertThat(lobRse.extractData(rset)).isEqualTo(10000L);
+		assertThat(out.toByteArray()).isEqualTo(content);
+	}
+
+	@Test
+	public void testLobStreamingResultSetExtractorToChannel() throws SQLException {
+		byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+		ResultSet rset = mock(ResultSet.class);
+		given(rset.next()).willReturn(true, false);
+		LobHandler handler = mock(LobHandler.class);
+		given(handler.getBlobAsBinaryStream(rset, 1)).willReturn(new ByteArrayInputStream(content));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		LobStreamingResultSetExtractor lobRse = new LobStreamingResultSetExtractor(handler, 1, Channels.newChannel(out));
+		lobRse.setBufferSize(3);
+		assertThat(lobRse.extractData(rset)).isEqualTo(7L);
+		assertThat(out.toByteArray()).isEqualTo(content);
+	}
+
+	@Test
+	public void testLobStreamingResultSetExtractorToWriter() throws SQLException {
+		ResultSet rset = mock(ResultSet.class);
+		given(rset.next()).willReturn(true, false);
+		LobHandler handler = mock(LobHandler.class);
+		given(handler.getClobAsCharacterStream(rset, 2)).willReturn(new StringReader("content"));
+
+		StringWriter out = new StringWriter();
+		assertThat(new LobStreamingResultSetExtractor(handler, 2, out).extractData(rset)).isEqualTo(7L);
+		assertThat(out.toString()).isEqualTo("content");
+	}
+
+	@Test
+	public void testLobStreamingResultSetExtractorWithNullLob() throws SQLException {
+		ResultSet rset = mock(ResultSet.class);
+		given(rset.next()).willReturn(true, false);
+		LobHandler handler = mock(LobHandler.class);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThat(new LobStreamingResultSetExtractor(handler, 1, out).extractData(rset)).isNull();
+		assertThat(out.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void testLobStreamingResultSetExtractorNoRows() throws SQLException {
+		ResultSet rset = mock(ResultSet.class);
+		LobStreamingResultSetExtractor lobRse =
+				new LobStreamingResultSetExtractor(mock(LobHandler.class), 1, new ByteArrayOutputStream());
+		assertThatExceptionOfType(EmptyResultDataAccessException.class).isThrownBy(() ->
+				lobRse.extractData(rset));
+	}
+
+	@Test
+	public void testLobStreamingResultSetExtractorCorrectException() throws Exception {
+		ResultSet rset = mock(ResultSet.class);
+		given(rset.next()).willReturn(true, false);
+		InputStream in = mock(InputStream.class);
+		given(in.read(any(byte[].class))).willThrow(new IOException());
+		LobHandler handler = mock(LobHandler.class);
+		given(handler.getBlobAsBinaryStream(rset, 1)).willReturn(in);
+
+		LobStreamingResultSetExtractor lobRse =
+				new LobStreamingResultSetExtractor(handler, 1, new ByteArrayOutputStream());
+		assertThatExceptionOfType(LobRetrievalFailureException.class).isThrownBy(() ->
+				lobRse.extractData(rset));
+		verify(in).close();
+	}
+
 	private AbstractLobStreamingResultSetExtractor<Void> getResultSetExtractor(final boolean ex) {
 		AbstractLobStreamingResultSetExtractor<Void> lobRse = new AbstractLobStreamingResultSetExtractor<Void>() {
 
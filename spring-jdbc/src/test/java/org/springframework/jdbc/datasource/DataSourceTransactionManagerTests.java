@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -57,6 +57,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.core.testfixture.TestGroup.LONG_RUNNING;
@@ -965,6 +966,63 @@ public class DataSourceTransactionManagerTests  {
 		ordered.verify(con).close();
 	}
 
+	@Test
+	public void testTransactionWithLazyConnectionAndReadOnlyDataSource() throws Exception {
+		DataSource readOnlyDs = mock(DataSource.class);
+		Connection readOnlyCon = mock(Connection.class);
+		given(readOnlyDs.getConnection()).willReturn(readOnlyCon);
+		given(con.getAutoCommit()).willReturn(true);
+		given(con.getTransactionIsolation()).willReturn(Connection.TRANSACTION_READ_COMMITTED);
+		given(readOnlyCon.getAutoCommit()).willReturn(true);
+		Statement stmt = mock(Statement.class);
+		given(con.createStatement()).willReturn(stmt);
+		given(readOnlyCon.createStatement()).willReturn(stmt);
+
+		LazyConnectionDataSourceProxy dsProxy = new LazyConnectionDataSourceProxy(ds);
+		dsProxy.setReadOnlyDataSource(readOnlyDs);
+		tm = new DataSourceTransactionManager(dsProxy);
+		TransactionTemplate tt = new TransactionTemplate(tm);
+		tt.setReadOnly(true);
+		tt.execute(new TransactionCallbackWithoutResult() {
+			@Override
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				try {
+					DataSourceUtils.getConnection(dsProxy).createStatement();
+				}
+				catch (SQLException ex) {
+					throw new DataAccessResourceFailureException("", ex);
+				}
+			}
+		});
+
+		InOrder ordered = inOrder(readOnlyCon);
+		ordered.verify(readOnlyCon).setReadOnly(true);
+		ordered.verify(readOnlyCon).setAutoCommit(false);
+		ordered.verify(readOnlyCon).createStatement();
+		ordered.verify(readOnlyCon).commit();
+		ordered.verify(readOnlyCon).setAutoCommit(true);
+		ordered.verify(readOnlyCon).setReadOnly(false);
+		ordered.verify(readOnlyCon).close();
+		verify(con, never()).createStatement();
+
+		tt.setReadOnly(false);
+		tt.execute(new TransactionCallbackWithoutResult() {
+			@Override
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				try {
+					DataSourceUtils.getConnection(dsProxy).createStatement();
+				}
+				catch (SQLException ex) {
+					throw new DataAccessResourceFailureException("", ex);
+				}
+			}
+		});
+
+		verify(con).createStatement();
+		verify(con).commit();
+		verify(readOnlyCon).createStatement();
+	}
+
 	@ParameterizedTest(name = "transaction with {0} second timeout")
 	@ValueSource(ints = {1, 10})
 	@EnabledForTestGroups(LONG_RUNNING)
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.springframework.jdbc.datasource.init.ScriptUtils.executeSqlScript;
 
 /**
@@ -59,4 +61,27 @@ public class ScriptUtilsIntegrationTests extends AbstractDatabaseInitializationT
 		assertUsersDatabaseCreated("Hoeller", "Brannen");
 	}
 
+	/**
+	 * @since 5.3.20
+	 */
+	@Test
+	public void executeSqlScriptContainingMixedDmlAndQueryStatements() throws SQLException {
+		executeSqlScript(db.getConnection(), resource("users-data-multiple.sql"));
+		assertUsersDatabaseCreated("Hoeller", "Brannen", "Risberg");
+		assertThat(jdbcTemplate.queryForObject("select first_name from users where last_name = 'Brannen'",
+				String.class)).isEqualTo("Samuel");
+		assertThat(jdbcTemplate.queryForObject("select count(0) from users", Integer.class)).isEqualTo(3);
+	}
+
+	/**
+	 * @since 5.3.20
+	 */
+	@Test
+	public void executeSqlScriptWithFailingStatementInBatch() throws SQLException {
+		assertThatExceptionOfType(ScriptStatementFailedException.class)
+				.isThrownBy(() -> executeSqlScript(db.getConnection(), resource("users-data-with-failing-insert.sql")))
+				.withMessageContaining("statement #2")
+				.withMessageContaining("values(NULL, 'Brannen')");
+	}
+
 }
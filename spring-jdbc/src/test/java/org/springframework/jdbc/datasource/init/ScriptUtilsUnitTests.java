@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 
 package org.springframework.jdbc.datasource.init;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,11 +27,18 @@ import org.assertj.core.util.Strings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InOrder;
 
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.support.EncodedResource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.springframework.jdbc.datasource.init.ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER;
 import static org.springframework.jdbc.datasource.init.ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER;
 import static org.springframework.jdbc.datasource.init.ScriptUtils.DEFAULT_COMMENT_PREFIXES;
@@ -237,6 +248,64 @@ public class ScriptUtilsUnitTests {
 		assertThat(containsSqlScriptDelimiters(script, delimiter)).isEqualTo(expected);
 	}
 
+	@Test
+	public void executeSqlScriptWithBatchedDmlStatements() throws Exception {
+		String script = "insert into users values (1);\n" +
+				"insert into users values (2) returning id;\n" +
+				"UPDATE users set id = 3;\n" +
+				"delete from users;\n" +
+				"updates_log_cleanup();\n" +
+				"insert into users values (4);";
+		Connection connection = mock(Connection.class);
+		DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+		Statement stmt = mock(Statement.class);
+		given(connection.getMetaData()).willReturn(metaData);
+		given(metaData.supportsBatchUpdates()).willReturn(true);
+		given(connection.createStatement()).willReturn(stmt);
+		given(stmt.executeBatch()).willReturn(new int[] {1}, new int[] {1, 1}, new int[] {1});
+
+		ScriptUtils.executeSqlScript(connection,
+				new EncodedResource(new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8))));
+
+		InOrder ordered = inOrder(stmt);
+		ordered.verify(stmt).addBatch("insert into users values (1)");
+		ordered.verify(stmt).executeBatch();
+		ordered.verify(stmt).execute("insert into users values (2) returning id");
+		ordered.verify(stmt).addBatch("UPDATE users set id = 3");
+		ordered.verify(stmt).addBatch("delete from users");
+		ordered.verify(stmt).executeBatch();
+		ordered.verify(stmt).execute("updates_log_cleanup()");
+		ordered.verify(stmt).addBatch("insert into users values (4)");
+		ordered.verify(stmt).executeBatch();
+		ordered.verify(stmt).close();
+	}
+
+	@Test
+	public void executeSqlScriptWithLargeNumberOfDmlStatements() throws Exception {
+		StringBuilder script = new StringBuilder();
+		for (int i = 0; i < 2500; i++) {
+			script.append("insert into users values (").append(i).append(");\n");
+		}
+		Connection connection = mock(Connection.class);
+		DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+		Statement stmt = mock(Statement.class);
+		given(connection.getMetaData()).willReturn(metaData);
+		given(metaData.supportsBatchUpdates()).willReturn(true);
+		given(connection.createStatement()).willReturn(stmt);
+		given(stmt.executeBatch()).willReturn(new int[1000], new int[1000], new int[500]);
+
+		ScriptUtils.executeSqlScript(connection,
+				new EncodedResource(new ByteArrayResource(script.toString().getBytes(StandardCharsets.UTF_8))));
+
+		InOrder ordered = inOrder(stmt);
+		ordered.verify(stmt, times(1000)).addBatch(anyString());
+		ordered.verify(stmt).executeBatch();
+		ordered.verify(stmt, times(1000)).addBatch(anyString());
+		ordered.verify(stmt).executeBatch();
+		ordered.verify(stmt, times(500)).addBatch(anyString());
+		ordered.verify(stmt).executeBatch();
+	}
+
 	private String readScript(String path) throws Exception {
 		EncodedResource resource = new EncodedResource(new ClassPathResource(path, getClass()));
 		return ScriptUtils.readScript(resource, DEFAULT_STATEMENT_SEPARATOR, DEFAULT_COMMENT_PREFIXES,
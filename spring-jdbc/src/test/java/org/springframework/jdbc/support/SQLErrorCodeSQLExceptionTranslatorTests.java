@@ -207,4 +207,22 @@ public class SQLErrorCodeSQLExceptionTranslatorTests {
 		verify(connection).close();
 	}
 
+	@Test
+	public void errorCodeTranslationWithOverlappingAndUnsortedCodes() {
+		SQLErrorCodes errorCodes = new SQLErrorCodes();
+		errorCodes.setBadSqlGrammarCodes("1");
+		errorCodes.setDuplicateKeyCodes("30", "20", "10");
+		errorCodes.setDataIntegrityViolationCodes("1", "2");
+		SQLErrorCodeSQLExceptionTranslator sext = new SQLErrorCodeSQLExceptionTranslator(errorCodes);
+
+		// Earlier categories take precedence for a code registered more than once
+		assertThat(sext.translate("task", "SQL", new SQLException("", "", 1))).isInstanceOf(BadSqlGrammarException.class);
+		assertThat(sext.translate("task", "SQL", new SQLException("", "", 2))).isInstanceOf(DataIntegrityViolationException.class);
+		assertThat(sext.translate("task", "SQL", new SQLException("", "", 10))).isInstanceOf(DuplicateKeyException.class);
+
+		// Replaced codes are picked up after the first translation
+		errorCodes.setCannotAcquireLockCodes("3");
+		assertThat(sext.translate("task", "SQL", new SQLException("", "", 3))).isInstanceOf(CannotAcquireLockException.class);
+	}
+
 }
@@ -0,0 +1,7 @@
+INSERT INTO users(first_name, last_name) values('Juergen', 'Hoeller');
+INSERT INTO users(first_name, last_name) values('Sam', 'Brannen');
+UPDATE users SET first_name = 'Samuel' WHERE last_name = 'Brannen';
+SELECT COUNT(*) FROM users;
+INSERT INTO users(first_name, last_name) values('Rod', 'Johnson');
+DELETE FROM users WHERE last_name = 'Johnson';
+INSERT INTO users(first_name, last_name) values('Thomas', 'Risberg');
@@ -0,0 +1,3 @@
+INSERT INTO users(first_name, last_name) values('Juergen', 'Hoeller');
+INSERT INTO users(first_name, last_name) values(NULL, 'Brannen');
+INSERT INTO users(first_name, last_name) values('Sam', 'Brannen');
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.annotation.support;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.DestinationPatternsMessageCondition;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageMappingInfo;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessageTypeMessageCondition;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Benchmarks for dispatching messages to {@code @MessageMapping} methods
+ * through {@link SimpAnnotationMethodMessageHandler}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class SimpAnnotationMethodMessageHandlerBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"10", "100", "500"})
+		public int mappings;
+
+		@Param({"direct", "pattern"})
+		public String destinationType;
+
+		public BenchmarkMessageHandler handler;
+
+		public Message<?> message;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+			this.handler = new BenchmarkMessageHandler(channel);
+			this.handler.setDestinationPrefixes(Collections.singletonList("/app"));
+			this.handler.afterPropertiesSet();
+
+			Method method = ClassUtils.getMethod(BenchmarkController.class, "handle");
+			BenchmarkController controller = new BenchmarkController();
+			for (int i = 0; i < this.mappings; i++) {
+				this.handler.registerMapping(controller, method, "/direct/" + i);
+				this.handler.registerMapping(controller, method, "/pattern/" + i + "/{id}");
+			}
+
+			int index = this.mappings / 2;
+			String destination = ("direct".equals(this.destinationType) ?
+					"/app/direct/" + index : "/app/pattern/" + index + "/123");
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			accessor.setSessionId("session1");
+			accessor.setSessionAttributes(Collections.emptyMap());
+			accessor.setDestination(destination);
+			this.message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+		}
+	}
+
+	@Benchmark
+	public void handleMessage(BenchmarkData data) {
+		data.handler.handleMessage(data.message);
+	}
+
+
+	public static class BenchmarkMessageHandler extends SimpAnnotationMethodMessageHandler {
+
+		private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+		public BenchmarkMessageHandler(ExecutorSubscribableChannel channel) {
+			super(channel, channel, new SimpMessagingTemplate(channel));
+		}
+
+		public void registerMapping(Object handler, Method method, String destination) {
+			SimpMessageMappingInfo mapping = new SimpMessageMappingInfo(SimpMessageTypeMessageCondition.MESSAGE,
+					new DestinationPatternsMessageCondition(new String[] {destination}, this.pathMatcher));
+			registerHandlerMethod(handler, method, mapping);
+		}
+	}
+
+
+	public static class BenchmarkController {
+
+		public void handle() {
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -169,6 +169,33 @@ public class DefaultSubscriptionRegistryBenchmark {
 		blackhole.consume(serverState.registry.findSubscriptionsInternal(request.findDestination, serverState.findMessage));
 	}
 
+	@State(Scope.Thread)
+	public static class ConnectRequest {
+
+		public Message<?> subscribe;
+
+		public String findDestination;
+
+		public String session;
+
+		@Setup(Level.Trial)
+		public void doSetup(ServerState serverState) {
+			int uniqueNumber = serverState.uniqueIdGenerator.incrementAndGet();
+			this.session = "churnSessionId_" + uniqueNumber;
+			this.findDestination = serverState.destinationIds[uniqueNumber % serverState.destinationIds.length];
+			String subscribeDestination = "patternSubscriptions".equals(serverState.specialization) ?
+					"/**/" + this.findDestination : this.findDestination;
+			this.subscribe = subscribeMessage(this.session, String.valueOf(uniqueNumber), subscribeDestination);
+		}
+	}
+
+	@Benchmark
+	public void connectDisconnect(ServerState serverState, ConnectRequest request, Blackhole blackhole) {
+		serverState.registry.registerSubscription(request.subscribe);
+		blackhole.consume(serverState.registry.findSubscriptionsInternal(request.findDestination, serverState.findMessage));
+		serverState.registry.unregisterAllSubscriptions(request.session);
+	}
+
 	@Benchmark
 	public MultiValueMap<String, String> find(ServerState serverState, FindRequest request) {
 		return serverState.registry.findSubscriptionsInternal(request.destination, serverState.findMessage);
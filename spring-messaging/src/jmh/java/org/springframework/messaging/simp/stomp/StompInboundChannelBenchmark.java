@@ -0,0 +1,111 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.stomp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.ImmutableMessageChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.util.Assert;
+
+/**
+ * Benchmarks for the per-message work of the client inbound channel: decoding
+ * a STOMP frame, populating its headers the way {@code StompSubProtocolHandler}
+ * does, and sending it through a synchronous channel with the
+ * {@link ImmutableMessageChannelInterceptor} to a handler that reads the
+ * {@link SimpMessageHeaderAccessor}. Best run with {@code -prof gc} to observe
+ * the allocation rate per message.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class StompInboundChannelBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"0", "5", "20"})
+		public int customHeaders;
+
+		public byte[] frame;
+
+		public StompDecoder decoder;
+
+		public ExecutorSubscribableChannel channel;
+
+		@Setup(Level.Trial)
+		public void setup(Blackhole blackhole) {
+			StringBuilder sb = new StringBuilder("SEND\ndestination:/app/greetings\ncontent-type:text/plain\n");
+			for (int i = 0; i < this.customHeaders; i++) {
+				sb.append("header").append(i).append(":value").append(i).append('\n');
+			}
+			sb.append("content-length:5\n\nhello\0");
+			this.frame = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+			this.decoder = new StompDecoder();
+
+			this.channel = new ExecutorSubscribableChannel();
+			this.channel.addInterceptor(new ImmutableMessageChannelInterceptor());
+			this.channel.subscribe(new BenchmarkMessageHandler(blackhole));
+		}
+	}
+
+	@Benchmark
+	public boolean sendInbound(BenchmarkData data) {
+		Message<byte[]> message = data.decoder.decode(ByteBuffer.wrap(data.frame)).get(0);
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		Assert.state(accessor != null, "No StompHeaderAccessor");
+		accessor.setSessionId("session1");
+		accessor.setSessionAttributes(Collections.emptyMap());
+		accessor.setUser(null);
+		accessor.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, accessor.getHeartbeat());
+		return data.channel.send(message);
+	}
+
+
+	private static class BenchmarkMessageHandler implements MessageHandler {
+
+		private final Blackhole blackhole;
+
+		BenchmarkMessageHandler(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void handleMessage(Message<?> message) {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+			this.blackhole.consume(accessor.getDestination());
+			this.blackhole.consume(accessor.getSessionId());
+			this.blackhole.consume(accessor.getFirstNativeHeader("content-type"));
+		}
+	}
+
+}
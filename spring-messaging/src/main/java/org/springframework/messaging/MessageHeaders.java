@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,6 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -135,7 +134,11 @@ public class MessageHeaders implements Map<String, Object>, Serializable {
 	 * @param timestamp the {@link #TIMESTAMP} header value
 	 */
 	protected MessageHeaders(@Nullable Map<String, Object> headers, @Nullable UUID id, @Nullable Long timestamp) {
-		this.headers = (headers != null ? new HashMap<>(headers) : new HashMap<>());
+		// Leave room for ID and TIMESTAMP so that adding them does not trigger a resize
+		this.headers = CollectionUtils.newHashMap(headers != null ? headers.size() + 2 : 2);
+		if (headers != null) {
+			this.headers.putAll(headers);
+		}
 
 		if (id == null) {
 			this.headers.put(ID, getIdGenerator().generateId());
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -480,13 +480,14 @@ public abstract class AbstractMethodMessageHandler<T>
 			handleNoMatch(destination, message);
 			return null;
 		}
-		Comparator<Match<T>> comparator = new MatchComparator(getMappingComparator(message));
-		matches.sort(comparator);
 		if (logger.isTraceEnabled()) {
 			logger.trace("Found " + matches.size() + " handler methods: " + matches);
 		}
 		Match<T> bestMatch = matches.get(0);
 		if (matches.size() > 1) {
+			Comparator<Match<T>> comparator = new MatchComparator(getMappingComparator(message));
+			matches.sort(comparator);
+			bestMatch = matches.get(0);
 			Match<T> secondBestMatch = matches.get(1);
 			if (comparator.compare(bestMatch, secondBestMatch) == 0) {
 				HandlerMethod m1 = bestMatch.handlerMethod;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,11 +22,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
@@ -151,7 +152,7 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 		boolean isPattern = this.pathMatcher.isPattern(destination);
 		Expression expression = getSelectorExpression(message.getHeaders());
-		Subscription subscription = new Subscription(subscriptionId, destination, isPattern, expression);
+		Subscription subscription = new Subscription(sessionId, subscriptionId, destination, isPattern, expression);
 
 		this.sessionRegistry.addSubscription(sessionId, subscription);
 		this.destinationCache.updateAfterNewSubscription(sessionId, subscription);
@@ -184,12 +185,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	@Override
 	protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
-		SessionInfo info = this.sessionRegistry.getSession(sessionId);
-		if (info != null) {
-			Subscription subscription = info.removeSubscription(subscriptionId);
-			if (subscription != null) {
-				this.destinationCache.updateAfterRemovedSubscription(sessionId, subscription);
-			}
+		Subscription subscription = this.sessionRegistry.removeSubscription(sessionId, subscriptionId);
+		if (subscription != null) {
+			this.destinationCache.updateAfterRemovedSubscription(sessionId, subscription);
 		}
 	}
 
@@ -275,14 +273,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 		private LinkedMultiValueMap<String, String> computeMatchingSubscriptions(String destination) {
 			LinkedMultiValueMap<String, String> sessionIdToSubscriptionIds = new LinkedMultiValueMap<>();
-			DefaultSubscriptionRegistry.this.sessionRegistry.forEachSubscription((sessionId, subscription) -> {
-				if (subscription.isPattern()) {
-					if (pathMatcher.match(subscription.getDestination(), destination)) {
-						addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
-					}
-				}
-				else if (destination.equals(subscription.getDestination())) {
-					addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
+			DefaultSubscriptionRegistry.this.sessionRegistry.forEachCandidateSubscription(destination, subscription -> {
+				if (!subscription.isPattern() || pathMatcher.match(subscription.getDestination(), destination)) {
+					addMatchedSubscriptionId(sessionIdToSubscriptionIds, subscription.getSessionId(), subscription.getId());
 				}
 			});
 			return sessionIdToSubscriptionIds;
@@ -378,30 +371,102 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 	}
 
 	/**
-	 * Registry for all session and their subscriptions.
+	 * Registry for all session and their subscriptions, also indexing
+	 * subscriptions by destination so that resolving the subscriptions for a
+	 * destination does not need to go through the subscriptions of all sessions.
+	 * <p>The subscriptions of a session and their index entries are updated
+	 * together while holding the lock of the {@link SessionInfo}, so that
+	 * concurrent subscribe, unsubscribe and disconnect messages for the same
+	 * session cannot leave an index entry behind for a removed subscription.
 	 */
 	private static final class SessionRegistry {
 
 		private final ConcurrentMap<String, SessionInfo> sessions = new ConcurrentHashMap<>();
 
+		// destination -> subscriptions, for non-pattern destinations
+		private final ConcurrentMap<String, Set<Subscription>> subscriptionsByDestination = new ConcurrentHashMap<>();
+
+		private final Set<Subscription> patternSubscriptions = ConcurrentHashMap.newKeySet();
+
 		@Nullable
 		public SessionInfo getSession(String sessionId) {
 			return this.sessions.get(sessionId);
 		}
 
-		public void forEachSubscription(BiConsumer<String, Subscription> consumer) {
-			this.sessions.forEach((sessionId, info) ->
-				info.getSubscriptions().forEach(subscription -> consumer.accept(sessionId, subscription)));
+		/**
+		 * Invoke the given consumer for every subscription that may match the
+		 * given destination, i.e. all subscriptions to exactly that destination
+		 * and all pattern subscriptions.
+		 */
+		public void forEachCandidateSubscription(String destination, Consumer<Subscription> consumer) {
+			Set<Subscription> subscriptions = this.subscriptionsByDestination.get(destination);
+			if (subscriptions != null) {
+				subscriptions.forEach(consumer);
+			}
+			this.patternSubscriptions.forEach(consumer);
 		}
 
 		public void addSubscription(String sessionId, Subscription subscription) {
 			SessionInfo info = this.sessions.computeIfAbsent(sessionId, _sessionId -> new SessionInfo());
-			info.addSubscription(subscription);
+			synchronized (info) {
+				// Skip if the session was concurrently removed
+				if (this.sessions.get(sessionId) == info && info.addSubscription(subscription)) {
+					addToIndex(subscription);
+				}
+			}
+		}
+
+		@Nullable
+		public Subscription removeSubscription(String sessionId, String subscriptionId) {
+			SessionInfo info = this.sessions.get(sessionId);
+			if (info == null) {
+				return null;
+			}
+			synchronized (info) {
+				Subscription subscription = info.removeSubscription(subscriptionId);
+				if (subscription != null) {
+					removeFromIndex(subscription);
+				}
+				return subscription;
+			}
 		}
 
 		@Nullable
 		public SessionInfo removeSubscriptions(String sessionId) {
-			return this.sessions.remove(sessionId);
+			SessionInfo info = this.sessions.remove(sessionId);
+			if (info != null) {
+				synchronized (info) {
+					info.getSubscriptions().forEach(this::removeFromIndex);
+				}
+			}
+			return info;
+		}
+
+		private void addToIndex(Subscription subscription) {
+			if (subscription.isPattern()) {
+				this.patternSubscriptions.add(subscription);
+			}
+			else {
+				this.subscriptionsByDestination.compute(subscription.getDestination(), (destination, subscriptions) -> {
+					if (subscriptions == null) {
+						subscriptions = ConcurrentHashMap.newKeySet();
+					}
+					subscriptions.add(subscription);
+					return subscriptions;
+				});
+			}
+		}
+
+		private void removeFromIndex(Subscription subscription) {
+			if (subscription.isPattern()) {
+				this.patternSubscriptions.remove(subscription);
+			}
+			else {
+				this.subscriptionsByDestination.computeIfPresent(subscription.getDestination(), (destination, subscriptions) -> {
+					subscriptions.remove(subscription);
+					return (subscriptions.isEmpty() ? null : subscriptions);
+				});
+			}
 		}
 	}
 
@@ -422,8 +487,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 			return this.subscriptionMap.get(subscriptionId);
 		}
 
-		public void addSubscription(Subscription subscription) {
-			this.subscriptionMap.putIfAbsent(subscription.getId(), subscription);
+		public boolean addSubscription(Subscription subscription) {
+			return (this.subscriptionMap.putIfAbsent(subscription.getId(), subscription) == null);
 		}
 
 		@Nullable
@@ -437,6 +502,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 	 */
 	private static final class Subscription {
 
+		private final String sessionId;
+
 		private final String id;
 
 		private final String destination;
@@ -446,15 +513,23 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		@Nullable
 		private final Expression selector;
 
-		public Subscription(String id, String destination, boolean isPattern, @Nullable Expression selector) {
+		public Subscription(String sessionId, String id, String destination, boolean isPattern,
+				@Nullable Expression selector) {
+
+			Assert.notNull(sessionId, "Session id must not be null");
 			Assert.notNull(id, "Subscription id must not be null");
 			Assert.notNull(destination, "Subscription destination must not be null");
+			this.sessionId = sessionId;
 			this.id = id;
 			this.selector = selector;
 			this.destination = destination;
 			this.isPattern = isPattern;
 		}
 
+		public String getSessionId() {
+			return this.sessionId;
+		}
+
 		public String getId() {
 			return this.id;
 		}
@@ -474,18 +549,24 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 		@Override
 		public boolean equals(@Nullable Object other) {
-			return (this == other ||
-					(other instanceof Subscription && this.id.equals(((Subscription) other).id)));
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof Subscription)) {
+				return false;
+			}
+			Subscription otherSubscription = (Subscription) other;
+			return (this.id.equals(otherSubscription.id) && this.sessionId.equals(otherSubscription.sessionId));
 		}
 
 		@Override
 		public int hashCode() {
-			return this.id.hashCode();
+			return this.id.hashCode() * 31 + this.sessionId.hashCode();
 		}
 
 		@Override
 		public String toString() {
-			return "subscription(id=" + this.id + ")";
+			return "subscription(sessionId=" + this.sessionId + ", id=" + this.id + ")";
 		}
 	}
 
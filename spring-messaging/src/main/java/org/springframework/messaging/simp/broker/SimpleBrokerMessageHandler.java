@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -381,35 +381,44 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 
 	protected void sendMessageToSubscribers(@Nullable String destination, Message<?> message) {
 		MultiValueMap<String,String> subscriptions = this.subscriptionRegistry.findSubscriptions(message);
-		if (!subscriptions.isEmpty() && logger.isDebugEnabled()) {
+		if (subscriptions.isEmpty()) {
+			return;
+		}
+		if (logger.isDebugEnabled()) {
 			logger.debug("Broadcasting to " + subscriptions.size() + " sessions.");
 		}
+		Object payload = message.getPayload();
+		MessageHeaders headers = message.getHeaders();
 		long now = System.currentTimeMillis();
 		subscriptions.forEach((sessionId, subscriptionIds) -> {
-			for (String subscriptionId : subscriptionIds) {
-				SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
-				initHeaders(headerAccessor);
-				headerAccessor.setSessionId(sessionId);
-				headerAccessor.setSubscriptionId(subscriptionId);
-				headerAccessor.copyHeadersIfAbsent(message.getHeaders());
-				headerAccessor.setLeaveMutable(true);
-				Object payload = message.getPayload();
-				Message<?> reply = MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
-				SessionInfo info = this.sessions.get(sessionId);
-				if (info != null) {
+			SessionInfo info = this.sessions.get(sessionId);
+			if (info == null) {
+				return;
+			}
+			// Resolve the session and its channel once for all its subscriptions
+			MessageChannel outboundChannel = info.getClientOutboundChannel();
+			try {
+				for (String subscriptionId : subscriptionIds) {
+					SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+					initHeaders(headerAccessor);
+					headerAccessor.setSessionId(sessionId);
+					headerAccessor.setSubscriptionId(subscriptionId);
+					headerAccessor.copyHeadersIfAbsent(headers);
+					headerAccessor.setLeaveMutable(true);
+					Message<?> reply = MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
 					try {
-						info.getClientOutboundChannel().send(reply);
+						outboundChannel.send(reply);
 					}
 					catch (Throwable ex) {
 						if (logger.isErrorEnabled()) {
 							logger.error("Failed to send " + message, ex);
 						}
 					}
-					finally {
-						info.setLastWriteTime(now);
-					}
 				}
 			}
+			finally {
+				info.setLastWriteTime(now);
+			}
 		});
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -161,7 +161,12 @@ public abstract class AbstractMessageBrokerConfiguration implements ApplicationC
 
 	@Bean
 	public TaskExecutor clientInboundChannelExecutor() {
-		TaskExecutorRegistration reg = getClientInboundChannelRegistration().taskExecutor();
+		ChannelRegistration registration = getClientInboundChannelRegistration();
+		TaskExecutor customExecutor = registration.getExecutor();
+		if (customExecutor != null) {
+			return customExecutor;
+		}
+		TaskExecutorRegistration reg = registration.taskExecutor();
 		ThreadPoolTaskExecutor executor = reg.getTaskExecutor();
 		executor.setThreadNamePrefix("clientInboundChannel-");
 		return executor;
@@ -197,7 +202,12 @@ public abstract class AbstractMessageBrokerConfiguration implements ApplicationC
 
 	@Bean
 	public TaskExecutor clientOutboundChannelExecutor() {
-		TaskExecutorRegistration reg = getClientOutboundChannelRegistration().taskExecutor();
+		ChannelRegistration registration = getClientOutboundChannelRegistration();
+		TaskExecutor customExecutor = registration.getExecutor();
+		if (customExecutor != null) {
+			return customExecutor;
+		}
+		TaskExecutorRegistration reg = registration.taskExecutor();
 		ThreadPoolTaskExecutor executor = reg.getTaskExecutor();
 		executor.setThreadNamePrefix("clientOutboundChannel-");
 		return executor;
@@ -240,6 +250,10 @@ public abstract class AbstractMessageBrokerConfiguration implements ApplicationC
 
 		MessageBrokerRegistry registry = getBrokerRegistry(clientInboundChannel, clientOutboundChannel);
 		ChannelRegistration registration = registry.getBrokerChannelRegistration();
+		TaskExecutor customExecutor = registration.getExecutor();
+		if (customExecutor != null) {
+			return customExecutor;
+		}
 		ThreadPoolTaskExecutor executor;
 		if (registration.hasTaskExecutor()) {
 			executor = registration.taskExecutor().getTaskExecutor();
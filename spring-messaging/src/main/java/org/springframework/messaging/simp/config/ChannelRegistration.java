@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -36,6 +37,9 @@ public class ChannelRegistration {
 	@Nullable
 	private TaskExecutorRegistration registration;
 
+	@Nullable
+	private TaskExecutor executor;
+
 	private final List<ChannelInterceptor> interceptors = new ArrayList<>();
 
 
@@ -59,6 +63,23 @@ public class ChannelRegistration {
 		return this.registration;
 	}
 
+	/**
+	 * Configure the executor backing this message channel as an alternative
+	 * to the {@link #taskExecutor() thread pool}, e.g. an executor that
+	 * dispatches to a fixed set of threads through per-thread queues rather
+	 * than a single shared queue.
+	 * <p>The executor is used as is: it is not customized with a thread name
+	 * prefix, and any {@link #taskExecutor()} settings are ignored.
+	 * Any {@link java.util.concurrent.Executor} may be adapted through
+	 * {@link org.springframework.core.task.support.TaskExecutorAdapter}.
+	 * @param executor the executor to use
+	 * @since 5.3.20
+	 */
+	public ChannelRegistration executor(TaskExecutor executor) {
+		this.executor = executor;
+		return this;
+	}
+
 	/**
 	 * Configure the given interceptors for this message channel,
 	 * adding them to the channel's current list of interceptors.
@@ -83,7 +104,12 @@ public class ChannelRegistration {
 
 
 	protected boolean hasTaskExecutor() {
-		return (this.registration != null);
+		return (this.registration != null || this.executor != null);
+	}
+
+	@Nullable
+	protected TaskExecutor getExecutor() {
+		return this.executor;
 	}
 
 	protected boolean hasInterceptors() {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -62,6 +62,11 @@ import org.springframework.util.concurrent.ListenableFutureTask;
  * session id of the client and sent back downstream through the {@link MessageChannel}
  * provided to the constructor.
  *
+ * <p>Connections are not shared between clients, since the STOMP broker applies
+ * authentication, acknowledgements, transactions and receipts per connection.
+ * The number of connections to the broker therefore grows with the number of
+ * connected clients, and the broker should be sized for that accordingly.
+ *
  * <p>This class also automatically opens a default "system" TCP connection to the
  * message broker that is used for sending messages that originate from the server
  * application (as opposed to from a client). Such messages are not associated with
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,6 @@
 
 package org.springframework.messaging.simp.stomp;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -33,7 +32,6 @@ import org.springframework.messaging.support.MessageHeaderInitializer;
 import org.springframework.messaging.support.NativeMessageHeaderAccessor;
 import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MultiValueMap;
-import org.springframework.util.StreamUtils;
 
 /**
  * Decodes one or more STOMP frames contained in a {@link ByteBuffer}.
@@ -54,6 +52,20 @@ public class StompDecoder {
 
 	private static final Log logger = SimpLogging.forLogName(StompDecoder.class);
 
+	private static final StompCommand[] COMMANDS = StompCommand.values();
+
+	/** Header names matched against the raw bytes to avoid creating a String per header. */
+	private static final String[] COMMON_HEADER_NAMES = new String[] {
+			StompHeaderAccessor.STOMP_DESTINATION_HEADER, StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER,
+			StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER, StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER,
+			StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER, StompHeaderAccessor.STOMP_ID_HEADER,
+			StompHeaderAccessor.STOMP_ACK_HEADER, StompHeaderAccessor.STOMP_RECEIPT_HEADER,
+			StompHeaderAccessor.STOMP_RECEIPT_ID_HEADER, StompHeaderAccessor.STOMP_MESSAGE_HEADER,
+			StompHeaderAccessor.STOMP_HOST_HEADER, StompHeaderAccessor.STOMP_ACCEPT_VERSION_HEADER,
+			StompHeaderAccessor.STOMP_VERSION_HEADER, StompHeaderAccessor.STOMP_HEARTBEAT_HEADER,
+			StompHeaderAccessor.STOMP_LOGIN_HEADER, StompHeaderAccessor.STOMP_PASSCODE_HEADER,
+			"session", "server", "transaction"};
+
 	@Nullable
 	private MessageHeaderInitializer headerInitializer;
 
@@ -140,12 +152,14 @@ public class StompDecoder {
 		Buffer buffer = byteBuffer;
 		buffer.mark();
 
-		String command = readCommand(byteBuffer);
-		if (command.length() > 0) {
+		int commandStart = byteBuffer.position();
+		int commandEnd = readLine(byteBuffer);
+		boolean hasCommand = (commandEnd != -1 ? commandEnd > commandStart : byteBuffer.position() > commandStart);
+		if (hasCommand) {
 			StompHeaderAccessor headerAccessor = null;
 			byte[] payload = null;
-			if (byteBuffer.remaining() > 0) {
-				StompCommand stompCommand = StompCommand.valueOf(command);
+			if (commandEnd != -1 && byteBuffer.remaining() > 0) {
+				StompCommand stompCommand = readCommand(byteBuffer, commandStart, commandEnd);
 				headerAccessor = StompHeaderAccessor.create(stompCommand);
 				initHeaders(headerAccessor);
 				readHeaders(byteBuffer, headerAccessor);
@@ -212,51 +226,108 @@ public class StompDecoder {
 		}
 	}
 
-	private String readCommand(ByteBuffer byteBuffer) {
-		ByteArrayOutputStream command = new ByteArrayOutputStream(256);
-		while (byteBuffer.remaining() > 0 && !tryConsumeEndOfLine(byteBuffer)) {
-			command.write(byteBuffer.get());
+	/**
+	 * Consume the line at the current position including the EOL that ends it.
+	 * @return the index at which the EOL starts, or -1 if the line is incomplete,
+	 * in which case all remaining content is consumed
+	 */
+	private int readLine(ByteBuffer byteBuffer) {
+		int limit = byteBuffer.limit();
+		for (int i = byteBuffer.position(); i < limit; i++) {
+			byte b = byteBuffer.get(i);
+			if (b == '\n') {
+				((Buffer) byteBuffer).position(i + 1);
+				return i;
+			}
+			else if (b == '\r') {
+				if (i + 1 < limit && byteBuffer.get(i + 1) == '\n') {
+					((Buffer) byteBuffer).position(i + 2);
+					return i;
+				}
+				throw new StompConversionException("'\\r' must be followed by '\\n'");
+			}
+		}
+		((Buffer) byteBuffer).position(limit);
+		return -1;
+	}
+
+	private StompCommand readCommand(ByteBuffer byteBuffer, int start, int end) {
+		for (StompCommand command : COMMANDS) {
+			if (matches(byteBuffer, start, end, command.name())) {
+				return command;
+			}
 		}
-		return StreamUtils.copyToString(command, StandardCharsets.UTF_8);
+		return StompCommand.valueOf(toString(byteBuffer, start, end));
 	}
 
 	private void readHeaders(ByteBuffer byteBuffer, StompHeaderAccessor headerAccessor) {
 		while (true) {
-			ByteArrayOutputStream headerStream = new ByteArrayOutputStream(256);
-			boolean headerComplete = false;
-			while (byteBuffer.hasRemaining()) {
-				if (tryConsumeEndOfLine(byteBuffer)) {
-					headerComplete = true;
-					break;
+			int start = byteBuffer.position();
+			int end = readLine(byteBuffer);
+			if (end == -1 || end == start) {
+				break;
+			}
+			int colonIndex = indexOf(byteBuffer, start, end, (byte) ':');
+			if (colonIndex <= start) {
+				if (byteBuffer.remaining() > 0) {
+					throw new StompConversionException("Illegal header: '" + toString(byteBuffer, start, end) +
+							"'. A header must be of the form <name>:[<value>].");
 				}
-				headerStream.write(byteBuffer.get());
 			}
-			if (headerStream.size() > 0 && headerComplete) {
-				String header = StreamUtils.copyToString(headerStream, StandardCharsets.UTF_8);
-				int colonIndex = header.indexOf(':');
-				if (colonIndex <= 0) {
-					if (byteBuffer.remaining() > 0) {
-						throw new StompConversionException("Illegal header: '" + header +
-								"'. A header must be of the form <name>:[<value>].");
-					}
+			else {
+				String headerName = readHeaderName(byteBuffer, start, colonIndex);
+				String headerValue = unescape(toString(byteBuffer, colonIndex + 1, end));
+				try {
+					headerAccessor.addNativeHeader(headerName, headerValue);
 				}
-				else {
-					String headerName = unescape(header.substring(0, colonIndex));
-					String headerValue = unescape(header.substring(colonIndex + 1));
-					try {
-						headerAccessor.addNativeHeader(headerName, headerValue);
-					}
-					catch (InvalidMimeTypeException ex) {
-						if (byteBuffer.remaining() > 0) {
-							throw ex;
-						}
+				catch (InvalidMimeTypeException ex) {
+					if (byteBuffer.remaining() > 0) {
+						throw ex;
 					}
 				}
 			}
-			else {
-				break;
+		}
+	}
+
+	private String readHeaderName(ByteBuffer byteBuffer, int start, int end) {
+		for (String name : COMMON_HEADER_NAMES) {
+			if (matches(byteBuffer, start, end, name)) {
+				return name;
+			}
+		}
+		return unescape(toString(byteBuffer, start, end));
+	}
+
+	private static boolean matches(ByteBuffer byteBuffer, int start, int end, String value) {
+		if (end - start != value.length()) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			if (byteBuffer.get(start + i) != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int indexOf(ByteBuffer byteBuffer, int start, int end, byte value) {
+		for (int i = start; i < end; i++) {
+			if (byteBuffer.get(i) == value) {
+				return i;
 			}
 		}
+		return -1;
+	}
+
+	private static String toString(ByteBuffer byteBuffer, int start, int end) {
+		if (byteBuffer.hasArray()) {
+			return new String(byteBuffer.array(), byteBuffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = new byte[end - start];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = byteBuffer.get(start + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
 	}
 
 	/**
@@ -264,9 +335,12 @@ public class StompDecoder {
 	 * <a href="https://stomp.github.io/stomp-specification-1.2.html#Value_Encoding">"Value Encoding"</a>.
 	 */
 	private String unescape(String inString) {
+		int index = inString.indexOf('\\');
+		if (index == -1) {
+			return inString;
+		}
 		StringBuilder sb = new StringBuilder(inString.length());
 		int pos = 0;  // position in the old string
-		int index = inString.indexOf('\\');
 
 		while (index >= 0) {
 			sb.append(inString, pos, index);
@@ -294,7 +368,7 @@ public class StompDecoder {
 			index = inString.indexOf('\\', pos);
 		}
 
-		sb.append(inString.substring(pos));
+		sb.append(inString, pos, inString.length());
 		return sb.toString();
 	}
 
@@ -325,16 +399,15 @@ public class StompDecoder {
 			}
 		}
 		else {
-			ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
-			while (byteBuffer.remaining() > 0) {
-				byte b = byteBuffer.get();
-				if (b == 0) {
-					return payload.toByteArray();
-				}
-				else {
-					payload.write(b);
-				}
+			int start = byteBuffer.position();
+			int end = indexOf(byteBuffer, start, byteBuffer.limit(), (byte) 0);
+			if (end != -1) {
+				byte[] payload = new byte[end - start];
+				byteBuffer.get(payload);
+				byteBuffer.get();
+				return payload;
 			}
+			((Buffer) byteBuffer).position(byteBuffer.limit());
 		}
 		return null;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -71,6 +71,16 @@ public class StompEncoder  {
 				}
 			};
 
+	/*
+	 * Messages broadcast to many subscribers share the same destination and content-type,
+	 * so the most recently encoded value of each is kept to avoid re-encoding it per frame.
+	 */
+	@Nullable
+	private volatile EncodedHeaderValue lastDestination;
+
+	@Nullable
+	private volatile EncodedHeaderValue lastContentType;
+
 
 	/**
 	 * Encodes the given STOMP {@code message} into a {@code byte[]}.
@@ -144,7 +154,7 @@ public class StompEncoder  {
 			for (String value : values) {
 				result.add(encodedKey);
 				result.add(COLON_BYTE);
-				result.add(encodeHeaderValue(value, shouldEscape));
+				result.add(encodeHeaderValue(entry.getKey(), value, shouldEscape));
 				result.add(LINE_FEED_BYTE);
 			}
 		}
@@ -173,6 +183,26 @@ public class StompEncoder  {
 		}
 	}
 
+	private byte[] encodeHeaderValue(String key, String input, boolean escape) {
+		if (StompHeaderAccessor.STOMP_DESTINATION_HEADER.equals(key)) {
+			EncodedHeaderValue cached = this.lastDestination;
+			if (cached == null || !cached.matches(input, escape)) {
+				cached = new EncodedHeaderValue(input, escape, encodeHeaderValue(input, escape));
+				this.lastDestination = cached;
+			}
+			return cached.getBytes();
+		}
+		else if (StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER.equals(key)) {
+			EncodedHeaderValue cached = this.lastContentType;
+			if (cached == null || !cached.matches(input, escape)) {
+				cached = new EncodedHeaderValue(input, escape, encodeHeaderValue(input, escape));
+				this.lastContentType = cached;
+			}
+			return cached.getBytes();
+		}
+		return encodeHeaderValue(input, escape);
+	}
+
 	private byte[] encodeHeaderValue(String input, boolean escape) {
 		String inputToUse = (escape ? escape(input) : input);
 		return inputToUse.getBytes(StandardCharsets.UTF_8);
@@ -218,6 +248,33 @@ public class StompEncoder  {
 	}
 
 
+	/**
+	 * A header value along with its encoded form.
+	 */
+	private static class EncodedHeaderValue {
+
+		private final String value;
+
+		private final boolean escaped;
+
+		private final byte[] bytes;
+
+		EncodedHeaderValue(String value, boolean escaped, byte[] bytes) {
+			this.value = value;
+			this.escaped = escaped;
+			this.bytes = bytes;
+		}
+
+		boolean matches(String value, boolean escaped) {
+			return (this.escaped == escaped && this.value.equals(value));
+		}
+
+		byte[] getBytes() {
+			return this.bytes;
+		}
+	}
+
+
 	/**
 	 * Accumulates byte content and returns an aggregated byte[] at the end.
 	 */
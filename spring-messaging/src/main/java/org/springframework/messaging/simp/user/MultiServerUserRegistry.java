@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.messaging.simp.user;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -167,9 +168,19 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 	}
 
 	void addRemoteRegistryDto(Message<?> message, MessageConverter converter, long expirationPeriod) {
+		byte[] content = (message.getPayload() instanceof byte[] ? (byte[]) message.getPayload() : null);
+		if (content != null) {
+			for (UserRegistrySnapshot registry : this.remoteRegistries.values()) {
+				if (registry.hasContent(content)) {
+					// Unchanged since the last broadcast: no need to deserialize
+					registry.refresh(expirationPeriod);
+					return;
+				}
+			}
+		}
 		UserRegistrySnapshot registry = (UserRegistrySnapshot) converter.fromMessage(message, UserRegistrySnapshot.class);
 		if (registry != null && !registry.getId().equals(this.id)) {
-			registry.init(expirationPeriod, this.sessionLookup);
+			registry.init(expirationPeriod, this.sessionLookup, content);
 			this.remoteRegistries.put(registry.getId(), registry);
 		}
 	}
@@ -198,6 +209,10 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 
 		private long expirationTime;
 
+		// Serialized form, if received as byte[], to detect unchanged broadcasts
+		@Nullable
+		private byte[] content;
+
 		/**
 		 * Default constructor for JSON deserialization.
 		 */
@@ -239,13 +254,22 @@ public class MultiServerUserRegistry implements SimpUserRegistry, SmartApplicati
 			return (now > this.expirationTime);
 		}
 
-		public void init(long expirationPeriod, SessionLookup sessionLookup) {
+		public void init(long expirationPeriod, SessionLookup sessionLookup, @Nullable byte[] content) {
 			this.expirationTime = System.currentTimeMillis() + expirationPeriod;
+			this.content = content;
 			for (TransferSimpUser user : this.users.values()) {
 				user.afterDeserialization(sessionLookup);
 			}
 		}
 
+		public boolean hasContent(byte[] content) {
+			return Arrays.equals(this.content, content);
+		}
+
+		public void refresh(long expirationPeriod) {
+			this.expirationTime = System.currentTimeMillis() + expirationPeriod;
+		}
+
 		public Set<SimpSubscription> findSubscriptions(SimpSubscriptionMatcher matcher) {
 			Set<SimpSubscription> result = new HashSet<>();
 			for (TransferSimpUser user : this.users.values()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,10 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
@@ -388,6 +392,60 @@ public class DefaultSubscriptionRegistryTests {
 		assertThat(sort(actual.get(sessIds.get(2)))).isEqualTo(subscriptionIds);
 	}
 
+	@Test
+	public void unregisterAllSubscriptionsWithSameSubscriptionIds() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/foo"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", "/foo"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs02", "/bar"));
+
+		this.registry.unregisterAllSubscriptions("sess02");
+
+		assertThat(this.registry.findSubscriptions(createMessage("/foo")))
+				.containsOnlyKeys("sess01")
+				.containsEntry("sess01", Collections.singletonList("subs01"));
+		assertThat(this.registry.findSubscriptions(createMessage("/bar"))).isEmpty();
+
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", "/bar"));
+		this.registry.unregisterSubscription(unsubscribeMessage("sess01", "subs01"));
+
+		assertThat(this.registry.findSubscriptions(createMessage("/foo"))).isEmpty();
+		assertThat(this.registry.findSubscriptions(createMessage("/bar")))
+				.containsOnlyKeys("sess02")
+				.containsEntry("sess02", Collections.singletonList("subs01"));
+	}
+
+	@Test
+	public void registerAndUnregisterSubscriptionConcurrently() throws Exception {
+		int iterations = 10000;
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> unsubscribe = executor.submit(() -> {
+				for (int i = 0; i < iterations; i++) {
+					barrier.await();
+					this.registry.unregisterSubscription(unsubscribeMessage("sess01", "subs01"));
+					barrier.await();
+				}
+				return null;
+			});
+			for (int i = 0; i < iterations; i++) {
+				String dest = "/foo" + i;
+				Message<?> message = subscribeMessage("sess01", "subs01", dest);
+				barrier.await();
+				this.registry.registerSubscription(message);
+				barrier.await();
+
+				// Disconnect must not leave the subscription behind, whichever message ran first
+				this.registry.unregisterAllSubscriptions("sess01");
+				assertThat(this.registry.findSubscriptions(createMessage(dest))).as(dest).isEmpty();
+			}
+			unsubscribe.get();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	public void unregisterAllSubscriptionsNoMatch() {
 		this.registry.unregisterAllSubscriptions("bogus");
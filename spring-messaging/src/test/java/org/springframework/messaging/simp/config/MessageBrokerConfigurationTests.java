@@ -30,6 +30,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.core.Ordered;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
@@ -276,6 +277,19 @@ public class MessageBrokerConfigurationTests {
 		assertThat(taskExecutor.getKeepAliveSeconds()).isEqualTo(33);
 	}
 
+	@Test
+	public void customChannelExecutors() {
+		ApplicationContext context = loadConfig(CustomExecutorConfig.class);
+
+		for (String channelName : new String[] {"clientInboundChannel", "clientOutboundChannel", "brokerChannel"}) {
+			ExecutorSubscribableChannel channel = context.getBean(channelName, ExecutorSubscribableChannel.class);
+			TaskExecutor executor = context.getBean(channelName + "Executor", TaskExecutor.class);
+
+			assertThat(executor).isInstanceOf(SyncTaskExecutor.class);
+			assertThat(channel.getExecutor()).isSameAs(executor);
+		}
+	}
+
 	@Test
 	public void configureMessageConvertersDefault() {
 		AbstractMessageBrokerConfiguration config = new BaseTestMessageBrokerConfig();
@@ -672,6 +686,26 @@ public class MessageBrokerConfigurationTests {
 	}
 
 
+	@Configuration
+	static class CustomExecutorConfig extends BaseTestMessageBrokerConfig {
+
+		@Override
+		protected void configureClientInboundChannel(ChannelRegistration registration) {
+			registration.executor(new SyncTaskExecutor());
+		}
+
+		@Override
+		protected void configureClientOutboundChannel(ChannelRegistration registration) {
+			registration.executor(new SyncTaskExecutor());
+		}
+
+		@Override
+		protected void configureMessageBroker(MessageBrokerRegistry registry) {
+			registry.configureBrokerChannel().executor(new SyncTaskExecutor());
+		}
+	}
+
+
 	@Configuration
 	static abstract class BaseDotSeparatorConfig extends BaseTestMessageBrokerConfig {
 
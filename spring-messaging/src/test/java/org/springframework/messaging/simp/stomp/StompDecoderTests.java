@@ -189,6 +189,29 @@ public class StompDecoderTests {
 		assertThat(StompHeaderAccessor.wrap(messages.get(1)).getCommand()).isEqualTo(StompCommand.DISCONNECT);
 	}
 
+	@Test
+	public void decodeMultipleFramesFromDirectBuffer() {
+		String frame1 = "SEND\ndestination:test\ncontent-type:text/plain\n\nThe body of the message\0";
+		String frame2 = "SUBSCRIBE\nid:1\ndestination:/a\\cb\n\n\0";
+		byte[] bytes = (frame1 + frame2).getBytes();
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes);
+		buffer.flip();
+
+		final List<Message<byte[]>> messages = decoder.decode(buffer);
+
+		assertThat(messages.size()).isEqualTo(2);
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(messages.get(0));
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.SEND);
+		assertThat(headers.getDestination()).isEqualTo("test");
+		assertThat(headers.getContentType().toString()).isEqualTo("text/plain");
+		assertThat(new String(messages.get(0).getPayload())).isEqualTo("The body of the message");
+		headers = StompHeaderAccessor.wrap(messages.get(1));
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.SUBSCRIBE);
+		assertThat(headers.getSubscriptionId()).isEqualTo("1");
+		assertThat(headers.getDestination()).isEqualTo("/a:b");
+	}
+
 	@Test // SPR-13111
 	public void decodeFrameWithHeaderWithEmptyValue() {
 		String accept = "accept-version:1.1\n";
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -83,4 +83,21 @@ public class StompEncoderTests {
 		assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\ncontent-length:12\n\nMessage body\0");
 	}
 
+	@Test
+	public void encodeFramesWithSameDestination() {
+		StompHeaderAccessor connectHeaders = StompHeaderAccessor.create(StompCommand.CONNECT);
+		connectHeaders.setNativeHeader("destination", "/a:b");
+		Message<byte[]> connectFrame = MessageBuilder.createMessage(new byte[0], connectHeaders.getMessageHeaders());
+
+		assertThat(new String(encoder.encode(connectFrame))).isEqualTo("CONNECT\ndestination:/a:b\n\n\0");
+
+		for (int i = 0; i < 2; i++) {
+			StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.SEND);
+			headers.setDestination("/a:b");
+			Message<byte[]> frame = MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders());
+
+			assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\ndestination:/a\\cb\ncontent-length:0\n\n\0");
+		}
+	}
+
 }
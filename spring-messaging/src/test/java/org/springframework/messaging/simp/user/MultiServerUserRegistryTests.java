@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -178,4 +178,24 @@ class MultiServerUserRegistryTests {
 		assertThat(this.registry.getUserCount()).isEqualTo(0);
 	}
 
+	@Test
+	void unchangedRemoteRegistryRefreshesExpiration() {
+		// Prepare broadcast message from remote server
+		TestSimpUser testUser = new TestSimpUser("joe");
+		testUser.addSessions(new TestSimpSession("remote-sub"));
+		SimpUserRegistry testRegistry = mock(SimpUserRegistry.class);
+		given(testRegistry.getUsers()).willReturn(Collections.singleton(testUser));
+		Object registryDto = new MultiServerUserRegistry(testRegistry).getLocalRegistryDto();
+		Message<?> message = this.converter.toMessage(registryDto, null);
+
+		// Add remote registry, then receive the same broadcast again
+		this.registry.addRemoteRegistryDto(message, this.converter, -1);
+		SimpUser user = this.registry.getUser("joe");
+		this.registry.addRemoteRegistryDto(this.converter.toMessage(registryDto, null), this.converter, 20000);
+
+		this.registry.purgeExpiredRegistries();
+		assertThat(this.registry.getUserCount()).isEqualTo(1);
+		assertThat(this.registry.getUser("joe")).isSameAs(user);
+	}
+
 }
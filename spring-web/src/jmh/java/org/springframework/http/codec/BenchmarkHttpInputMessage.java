@@ -0,0 +1,53 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+
+/**
+ * Minimal {@link ReactiveHttpInputMessage} for benchmarking
+ * {@link HttpMessageReader} implementations without a server runtime.
+ */
+public class BenchmarkHttpInputMessage implements ReactiveHttpInputMessage {
+
+	private final HttpHeaders headers = new HttpHeaders();
+
+	private final Flux<DataBuffer> body;
+
+
+	public BenchmarkHttpInputMessage(MediaType contentType, Flux<DataBuffer> body) {
+		this.headers.setContentType(contentType);
+		this.body = body;
+	}
+
+
+	@Override
+	public HttpHeaders getHeaders() {
+		return this.headers;
+	}
+
+	@Override
+	public Flux<DataBuffer> getBody() {
+		return this.body;
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec;
+
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ReactiveHttpOutputMessage;
+
+/**
+ * Minimal {@link ReactiveHttpOutputMessage} for benchmarking
+ * {@link HttpMessageWriter} implementations without a server runtime.
+ * Written buffers are handed to a {@link Blackhole} and released.
+ */
+public class BenchmarkHttpOutputMessage implements ReactiveHttpOutputMessage {
+
+	private final HttpHeaders headers = new HttpHeaders();
+
+	private final DataBufferFactory bufferFactory;
+
+	private final Blackhole blackhole;
+
+
+	public BenchmarkHttpOutputMessage(DataBufferFactory bufferFactory, Blackhole blackhole) {
+		this.bufferFactory = bufferFactory;
+		this.blackhole = blackhole;
+	}
+
+
+	@Override
+	public HttpHeaders getHeaders() {
+		return this.headers;
+	}
+
+	@Override
+	public DataBufferFactory bufferFactory() {
+		return this.bufferFactory;
+	}
+
+	@Override
+	public void beforeCommit(Supplier<? extends Mono<Void>> action) {
+	}
+
+	@Override
+	public boolean isCommitted() {
+		return false;
+	}
+
+	@Override
+	public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+		return Flux.from(body)
+				.doOnNext(buffer -> {
+					this.blackhole.consume(buffer.readableByteCount());
+					DataBufferUtils.release(buffer);
+				})
+				.then();
+	}
+
+	@Override
+	public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+		return Flux.from(body).concatMap(this::writeWith).then();
+	}
+
+	@Override
+	public Mono<Void> setComplete() {
+		return Mono.empty();
+	}
+
+}
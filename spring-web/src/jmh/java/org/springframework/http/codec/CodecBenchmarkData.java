@@ -0,0 +1,81 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+/**
+ * Base benchmark state for codec benchmarks, allowing to run each benchmark
+ * against a {@link DefaultDataBufferFactory} and a pooled
+ * {@link NettyDataBufferFactory}.
+ *
+ * <p>Codec benchmarks are best run with the GC profiler in order to also
+ * report the allocation rate, e.g. {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+public abstract class CodecBenchmarkData {
+
+	@Param({"default", "netty"})
+	public String bufferFactoryType;
+
+	public DataBufferFactory bufferFactory;
+
+
+	/**
+	 * Initialize the {@link DataBufferFactory} for the selected type;
+	 * to be called from the {@code @Setup} method of subclasses.
+	 */
+	protected void initBufferFactory() {
+		if ("netty".equals(this.bufferFactoryType)) {
+			this.bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+		}
+		else {
+			this.bufferFactory = new DefaultDataBufferFactory();
+		}
+	}
+
+	/**
+	 * Return a {@code Flux} that emits the given content in chunks of the
+	 * given size, allocating new buffers for each subscription since
+	 * decoders release the buffers they consume.
+	 */
+	public Flux<DataBuffer> toDataBuffers(byte[] content, int chunkSize) {
+		return Flux.defer(() -> {
+			List<DataBuffer> buffers = new ArrayList<>(content.length / chunkSize + 1);
+			for (int offset = 0; offset < content.length; offset += chunkSize) {
+				int length = Math.min(chunkSize, content.length - offset);
+				DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+				buffer.write(content, offset, length);
+				buffers.add(buffer);
+			}
+			return Flux.fromIterable(buffers);
+		});
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Benchmarks for writing and reading URL-encoded forms.
+ *
+ * @see FormHttpMessageWriter
+ * @see FormHttpMessageReader
+ */
+@BenchmarkMode(Mode.Throughput)
+public class FormCodecBenchmark {
+
+	private static final ResolvableType FORM_TYPE =
+			ResolvableType.forClassWithGenerics(MultiValueMap.class, String.class, String.class);
+
+
+	/**
+	 * Benchmark data holding a form; the {@code fieldCount} parameter grows the number of fields.
+	 */
+	@State(Scope.Benchmark)
+	public static class FormData extends CodecBenchmarkData {
+
+		@Param({"1", "50", "500"})
+		int fieldCount;
+
+		@Param("8192")
+		int chunkSize;
+
+		FormHttpMessageWriter writer;
+
+		FormHttpMessageReader reader;
+
+		MultiValueMap<String, String> form;
+
+		byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			initBufferFactory();
+			this.writer = new FormHttpMessageWriter();
+			this.reader = new FormHttpMessageReader();
+			this.reader.setMaxInMemorySize(-1);
+			this.form = new LinkedMultiValueMap<>(this.fieldCount);
+			StringBuilder builder = new StringBuilder();
+			for (int i = 0; i < this.fieldCount; i++) {
+				String value = "spring framework " + i + " & friends";
+				this.form.add("field" + i, value);
+				if (builder.length() > 0) {
+					builder.append('&');
+				}
+				builder.append("field").append(i).append('=').append(value.replace(" ", "+").replace("&", "%26"));
+			}
+			this.content = builder.toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+	}
+
+	@Benchmark
+	public void write(Blackhole bh, FormData data) {
+		data.writer.write(Mono.just(data.form), FORM_TYPE, MediaType.APPLICATION_FORM_URLENCODED,
+				new BenchmarkHttpOutputMessage(data.bufferFactory, bh), Collections.emptyMap())
+				.block();
+	}
+
+	@Benchmark
+	public MultiValueMap<String, String> read(FormData data) {
+		BenchmarkHttpInputMessage message = new BenchmarkHttpInputMessage(
+				MediaType.APPLICATION_FORM_URLENCODED, data.toDataBuffers(data.content, data.chunkSize));
+		return data.reader.readMono(FORM_TYPE, message, Collections.emptyMap()).block();
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Project;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks for writing and reading Server-Sent Events with JSON data.
+ *
+ * @see ServerSentEventHttpMessageWriter
+ * @see ServerSentEventHttpMessageReader
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ServerSentEventCodecBenchmark {
+
+	private static final ResolvableType EVENT_TYPE =
+			ResolvableType.forClassWithGenerics(ServerSentEvent.class, Project.class);
+
+
+	/**
+	 * Benchmark data holding a stream of events with {@link Project} data.
+	 * The {@code projectCount} parameter grows the size of each event and the
+	 * {@code streamSize} parameter the number of events.
+	 */
+	@State(Scope.Benchmark)
+	public static class EventStreamData extends CodecBenchmarkData {
+
+		@Param({"0", "50"})
+		int projectCount;
+
+		@Param({"1", "50", "500"})
+		int streamSize;
+
+		@Param("8192")
+		int chunkSize;
+
+		ServerSentEventHttpMessageWriter writer;
+
+		ServerSentEventHttpMessageReader reader;
+
+		ServerSentEvent<Project> event;
+
+		byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			initBufferFactory();
+			ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+			this.writer = new ServerSentEventHttpMessageWriter(new Jackson2JsonEncoder(objectMapper));
+			Jackson2JsonDecoder decoder = new Jackson2JsonDecoder(objectMapper);
+			decoder.setMaxInMemorySize(-1);
+			this.reader = new ServerSentEventHttpMessageReader(decoder);
+			this.reader.setMaxInMemorySize(-1);
+			Project project = new Project("spring", this.projectCount);
+			this.event = ServerSentEvent.builder(project).id("1").event("project").build();
+			String data = objectMapper.writeValueAsString(project);
+			StringBuilder builder = new StringBuilder();
+			for (int i = 0; i < this.streamSize; i++) {
+				builder.append("id:").append(i).append("\nevent:project\ndata:").append(data).append("\n\n");
+			}
+			this.content = builder.toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+	}
+
+	@Benchmark
+	public void write(Blackhole bh, EventStreamData data) {
+		Flux<ServerSentEvent<Project>> events = Flux.just(data.event).repeat(data.streamSize - 1);
+		data.writer.write(events, EVENT_TYPE, MediaType.TEXT_EVENT_STREAM,
+				new BenchmarkHttpOutputMessage(data.bufferFactory, bh), Collections.emptyMap())
+				.block();
+	}
+
+	@Benchmark
+	public void read(Blackhole bh, EventStreamData data) {
+		BenchmarkHttpInputMessage message = new BenchmarkHttpInputMessage(
+				MediaType.TEXT_EVENT_STREAM, data.toDataBuffers(data.content, data.chunkSize));
+		data.reader.read(EVENT_TYPE, message, Collections.emptyMap())
+				.doOnNext(bh::consume)
+				.then().block();
+	}
+
+}
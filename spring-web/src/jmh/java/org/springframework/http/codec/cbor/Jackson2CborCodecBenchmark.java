@@ -0,0 +1,101 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.cbor;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.CodecBenchmarkData;
+import org.springframework.http.codec.json.Project;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks for encoding and decoding POJOs to and from CBOR using Jackson.
+ * Stream encoding and decoding are not supported by the CBOR codecs.
+ *
+ * @see Jackson2CborEncoder
+ * @see Jackson2CborDecoder
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2CborCodecBenchmark {
+
+	/**
+	 * Benchmark data holding {@link Project} to be serialized and deserialized.
+	 * A {@code projectCount} parameter can be used to grow the size of the object graph.
+	 */
+	@State(Scope.Benchmark)
+	public static class CborData extends CodecBenchmarkData {
+
+		@Param({"0", "50", "500"})
+		int projectCount;
+
+		@Param("8192")
+		int chunkSize;
+
+		Jackson2CborEncoder encoder;
+
+		Jackson2CborDecoder decoder;
+
+		ResolvableType resolvableType;
+
+		Project project;
+
+		byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			initBufferFactory();
+			ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.cbor().build();
+			this.encoder = new Jackson2CborEncoder(objectMapper, MediaType.APPLICATION_CBOR);
+			this.decoder = new Jackson2CborDecoder(objectMapper, MediaType.APPLICATION_CBOR);
+			this.decoder.setMaxInMemorySize(-1);
+			this.resolvableType = ResolvableType.forClass(Project.class);
+			this.project = new Project("spring", this.projectCount);
+			this.content = objectMapper.writeValueAsBytes(this.project);
+		}
+
+	}
+
+	@Benchmark
+	public void encodeValue(Blackhole bh, CborData data) {
+		DataBuffer buffer = data.encoder.encodeValue(data.project, data.bufferFactory,
+				data.resolvableType, MediaType.APPLICATION_CBOR, Collections.emptyMap());
+		bh.consume(buffer);
+		DataBufferUtils.release(buffer);
+	}
+
+	@Benchmark
+	public Object decodeToMono(CborData data) {
+		return data.decoder.decodeToMono(data.toDataBuffers(data.content, data.chunkSize),
+				data.resolvableType, MediaType.APPLICATION_CBOR, Collections.emptyMap()).block();
+	}
+
+}
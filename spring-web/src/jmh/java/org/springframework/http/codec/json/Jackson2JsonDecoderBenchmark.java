@@ -0,0 +1,118 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.CodecBenchmarkData;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks for decoding JSON to POJOs using Jackson.
+ *
+ * @see AbstractJackson2Decoder
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2JsonDecoderBenchmark {
+
+	/**
+	 * Benchmark data holding a JSON serialized {@link Project}.
+	 * A {@code projectCount} parameter can be used to grow the size of the payload to decode.
+	 */
+	@State(Scope.Benchmark)
+	public static class DecodeSingleData extends CodecBenchmarkData {
+
+		@Param({"0", "50", "500"})
+		int projectCount;
+
+		@Param("8192")
+		int chunkSize;
+
+		Jackson2JsonDecoder jsonDecoder;
+
+		ObjectMapper objectMapper;
+
+		ResolvableType resolvableType;
+
+		byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			initBufferFactory();
+			this.objectMapper = new Jackson2ObjectMapperBuilder().build();
+			this.jsonDecoder = new Jackson2JsonDecoder(this.objectMapper);
+			this.jsonDecoder.setMaxInMemorySize(-1);
+			this.resolvableType = ResolvableType.forClass(Project.class);
+			this.content = this.objectMapper.writeValueAsBytes(createContent());
+		}
+
+		Object createContent() {
+			return new Project("spring", this.projectCount);
+		}
+
+	}
+
+	@Benchmark
+	public Object decodeToMono(DecodeSingleData data) {
+		return data.jsonDecoder.decodeToMono(data.toDataBuffers(data.content, data.chunkSize),
+				data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap()).block();
+	}
+
+	/**
+	 * Benchmark data holding a JSON array of {@link Project} to be decoded as a stream of elements.
+	 */
+	@State(Scope.Benchmark)
+	public static class DecodeData extends DecodeSingleData {
+
+		@Param({"1", "50", "500"})
+		int streamSize;
+
+		@Override
+		Object createContent() {
+			List<Project> projects = new ArrayList<>(this.streamSize);
+			for (int i = 0; i < this.streamSize; i++) {
+				projects.add(new Project("spring", this.projectCount));
+			}
+			return projects;
+		}
+
+	}
+
+	@Benchmark
+	public void decode(Blackhole bh, DecodeData data) {
+		data.jsonDecoder.decode(data.toDataBuffers(data.content, data.chunkSize),
+				data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap())
+				.doOnNext(bh::consume)
+				.then().block();
+	}
+
+}
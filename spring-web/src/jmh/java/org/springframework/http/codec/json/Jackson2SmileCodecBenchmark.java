@@ -0,0 +1,125 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.CodecBenchmarkData;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks for encoding and decoding POJOs to and from Smile using Jackson.
+ *
+ * @see Jackson2SmileEncoder
+ * @see Jackson2SmileDecoder
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2SmileCodecBenchmark {
+
+	private static final MediaType SMILE_MEDIA_TYPE = new MediaType("application", "x-jackson-smile");
+
+
+	/**
+	 * Benchmark data holding {@link Project} to be serialized and deserialized.
+	 * A {@code projectCount} parameter can be used to grow the size of the object graph.
+	 */
+	@State(Scope.Benchmark)
+	public static class SmileData extends CodecBenchmarkData {
+
+		@Param({"0", "50", "500"})
+		int projectCount;
+
+		@Param("8192")
+		int chunkSize;
+
+		Jackson2SmileEncoder encoder;
+
+		Jackson2SmileDecoder decoder;
+
+		ResolvableType resolvableType;
+
+		Project project;
+
+		byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			initBufferFactory();
+			ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.smile().build();
+			this.encoder = new Jackson2SmileEncoder(objectMapper, SMILE_MEDIA_TYPE);
+			this.decoder = new Jackson2SmileDecoder(objectMapper, SMILE_MEDIA_TYPE);
+			this.decoder.setMaxInMemorySize(-1);
+			this.resolvableType = ResolvableType.forClass(Project.class);
+			this.project = new Project("spring", this.projectCount);
+			this.content = objectMapper.writeValueAsBytes(this.project);
+		}
+
+	}
+
+	@Benchmark
+	public void encodeValue(Blackhole bh, SmileData data) {
+		DataBuffer buffer = data.encoder.encodeValue(data.project, data.bufferFactory,
+				data.resolvableType, SMILE_MEDIA_TYPE, Collections.emptyMap());
+		bh.consume(buffer);
+		DataBufferUtils.release(buffer);
+	}
+
+	@Benchmark
+	public Object decodeToMono(SmileData data) {
+		return data.decoder.decodeToMono(data.toDataBuffers(data.content, data.chunkSize),
+				data.resolvableType, SMILE_MEDIA_TYPE, Collections.emptyMap()).block();
+	}
+
+	/**
+	 * Benchmark data for encoding a stream of {@link Project} elements.
+	 */
+	@State(Scope.Benchmark)
+	public static class SmileStreamData extends SmileData {
+
+		@Param({"1", "50", "500"})
+		int streamSize;
+
+	}
+
+	@Benchmark
+	public void encode(Blackhole bh, SmileStreamData data) {
+		Flux<Project> projects = Flux.generate(sink -> sink.next(data.project)).take(data.streamSize).cast(Project.class);
+		data.encoder.encode(projects, data.bufferFactory, data.resolvableType, SMILE_MEDIA_TYPE, Collections.emptyMap())
+				.doOnNext(buffer -> {
+					bh.consume(buffer);
+					DataBufferUtils.release(buffer);
+				})
+				.then().block();
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.multipart;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.BenchmarkHttpInputMessage;
+import org.springframework.http.codec.BenchmarkHttpOutputMessage;
+import org.springframework.http.codec.CodecBenchmarkData;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Benchmarks for writing and reading multipart requests. Parts larger than the
+ * default in-memory threshold of {@link DefaultPartHttpMessageReader} are
+ * stored on disk, so large {@code partSize} values include file I/O.
+ *
+ * @see MultipartHttpMessageWriter
+ * @see DefaultPartHttpMessageReader
+ */
+@BenchmarkMode(Mode.Throughput)
+public class MultipartCodecBenchmark {
+
+	private static final String BOUNDARY = "spring-benchmark-boundary";
+
+	private static final MediaType MULTIPART_TYPE = new MediaType(MediaType.MULTIPART_FORM_DATA,
+			Collections.singletonMap("boundary", BOUNDARY));
+
+	private static final ResolvableType MULTIPART_VALUE_TYPE =
+			ResolvableType.forClassWithGenerics(MultiValueMap.class, String.class, Object.class);
+
+
+	/**
+	 * Benchmark data holding a multipart request; the {@code partCount} parameter
+	 * grows the number of file parts and the {@code partSize} parameter their size.
+	 */
+	@State(Scope.Benchmark)
+	public static class MultipartData extends CodecBenchmarkData {
+
+		@Param({"1", "10"})
+		int partCount;
+
+		@Param({"1024", "1048576"})
+		int partSize;
+
+		@Param("8192")
+		int chunkSize;
+
+		MultipartHttpMessageWriter writer;
+
+		DefaultPartHttpMessageReader reader;
+
+		MultiValueMap<String, Object> parts;
+
+		byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			initBufferFactory();
+			this.writer = new MultipartHttpMessageWriter();
+			this.reader = new DefaultPartHttpMessageReader();
+			byte[] partContent = new byte[this.partSize];
+			Arrays.fill(partContent, (byte) 'a');
+			this.parts = new LinkedMultiValueMap<>();
+			this.parts.add("name", "spring");
+			StringBuilder builder = new StringBuilder();
+			builder.append("--").append(BOUNDARY).append("\r\n")
+					.append("Content-Disposition: form-data; name=\"name\"\r\n\r\n")
+					.append("spring\r\n");
+			String partString = new String(partContent, StandardCharsets.US_ASCII);
+			for (int i = 0; i < this.partCount; i++) {
+				String filename = "file" + i + ".txt";
+				this.parts.add("file" + i, new ByteArrayResource(partContent) {
+					@Override
+					public String getFilename() {
+						return filename;
+					}
+				});
+				builder.append("--").append(BOUNDARY).append("\r\n")
+						.append("Content-Disposition: form-data; name=\"file").append(i)
+						.append("\"; filename=\"").append(filename).append("\"\r\n")
+						.append("Content-Type: application/octet-stream\r\n\r\n")
+						.append(partString).append("\r\n");
+			}
+			builder.append("--").append(BOUNDARY).append("--\r\n");
+			this.content = builder.toString().getBytes(StandardCharsets.US_ASCII);
+		}
+
+	}
+
+	@Benchmark
+	public void write(Blackhole bh, MultipartData data) {
+		data.writer.write(Mono.just(data.parts), MULTIPART_VALUE_TYPE, MULTIPART_TYPE,
+				new BenchmarkHttpOutputMessage(data.bufferFactory, bh), Collections.emptyMap())
+				.block();
+	}
+
+	@Benchmark
+	public void read(Blackhole bh, MultipartData data) {
+		BenchmarkHttpInputMessage message = new BenchmarkHttpInputMessage(
+				MULTIPART_TYPE, data.toDataBuffers(data.content, data.chunkSize));
+		data.reader.read(ResolvableType.forClass(Part.class), message, Collections.emptyMap())
+				.concatMap(part -> part.content()
+						.doOnNext(buffer -> {
+							bh.consume(buffer.readableByteCount());
+							DataBufferUtils.release(buffer);
+						})
+						.then(part.delete()))
+				.then().block();
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.protobuf;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.CodecBenchmarkData;
+import org.springframework.util.MimeType;
+
+/**
+ * Benchmarks for encoding and decoding Protobuf messages.
+ * Uses the well-known {@link Struct} type so that no generated classes are needed.
+ *
+ * @see ProtobufEncoder
+ * @see ProtobufDecoder
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ProtobufCodecBenchmark {
+
+	private static final MimeType MIME_TYPE = ProtobufCodecSupport.MIME_TYPES.get(0);
+
+
+	/**
+	 * Benchmark data holding a {@link Struct} message.
+	 * A {@code fieldCount} parameter can be used to grow the size of the message.
+	 */
+	@State(Scope.Benchmark)
+	public static class ProtobufData extends CodecBenchmarkData {
+
+		@Param({"1", "50", "500"})
+		int fieldCount;
+
+		@Param("8192")
+		int chunkSize;
+
+		ProtobufEncoder encoder;
+
+		ProtobufDecoder decoder;
+
+		ResolvableType resolvableType;
+
+		Struct message;
+
+		byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			initBufferFactory();
+			this.encoder = new ProtobufEncoder();
+			this.decoder = new ProtobufDecoder();
+			this.decoder.setMaxMessageSize(-1);
+			this.resolvableType = ResolvableType.forClass(Struct.class);
+			Struct.Builder builder = Struct.newBuilder();
+			for (int i = 0; i < this.fieldCount; i++) {
+				builder.putFields("field" + i, Value.newBuilder().setStringValue("https://spring.io/projects/spring" + i).build());
+			}
+			this.message = builder.build();
+			this.content = createContent();
+		}
+
+		byte[] createContent() throws Exception {
+			return this.message.toByteArray();
+		}
+
+	}
+
+	@Benchmark
+	public void encodeValue(Blackhole bh, ProtobufData data) {
+		DataBuffer buffer = data.encoder.encodeValue(data.message, data.bufferFactory,
+				data.resolvableType, MIME_TYPE, Collections.emptyMap());
+		bh.consume(buffer);
+		DataBufferUtils.release(buffer);
+	}
+
+	@Benchmark
+	public Message decodeToMono(ProtobufData data) {
+		return data.decoder.decodeToMono(data.toDataBuffers(data.content, data.chunkSize),
+				data.resolvableType, MIME_TYPE, Collections.emptyMap()).block();
+	}
+
+	/**
+	 * Benchmark data holding a stream of delimited {@link Struct} messages.
+	 */
+	@State(Scope.Benchmark)
+	public static class ProtobufStreamData extends ProtobufData {
+
+		@Param({"1", "50", "500"})
+		int streamSize;
+
+		@Override
+		byte[] createContent() throws Exception {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			for (int i = 0; i < this.streamSize; i++) {
+				this.message.writeDelimitedTo(out);
+			}
+			return out.toByteArray();
+		}
+
+	}
+
+	@Benchmark
+	public void encode(Blackhole bh, ProtobufStreamData data) {
+		Flux<Struct> messages = Flux.generate(sink -> sink.next(data.message)).take(data.streamSize).cast(Struct.class);
+		data.encoder.encode(messages, data.bufferFactory, data.resolvableType,
+				MIME_TYPE, Collections.emptyMap())
+				.doOnNext(buffer -> {
+					bh.consume(buffer);
+					DataBufferUtils.release(buffer);
+				})
+				.then().block();
+	}
+
+	@Benchmark
+	public void decode(Blackhole bh, ProtobufStreamData data) {
+		data.decoder.decode(data.toDataBuffers(data.content, data.chunkSize), data.resolvableType,
+				MIME_TYPE, Collections.emptyMap())
+				.doOnNext(bh::consume)
+				.then().block();
+	}
+
+}
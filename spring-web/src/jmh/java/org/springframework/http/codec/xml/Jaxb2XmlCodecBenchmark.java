@@ -0,0 +1,143 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.xml;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.CodecBenchmarkData;
+
+/**
+ * Benchmarks for encoding and decoding JAXB annotated POJOs to and from XML.
+ *
+ * @see Jaxb2XmlEncoder
+ * @see Jaxb2XmlDecoder
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jaxb2XmlCodecBenchmark {
+
+	/**
+	 * Benchmark data holding {@link XmlProject} to be marshalled and unmarshalled.
+	 * A {@code projectCount} parameter can be used to grow the size of the object graph.
+	 */
+	@State(Scope.Benchmark)
+	public static class XmlData extends CodecBenchmarkData {
+
+		@Param({"0", "50", "500"})
+		int projectCount;
+
+		@Param("8192")
+		int chunkSize;
+
+		Jaxb2XmlEncoder encoder;
+
+		Jaxb2XmlDecoder decoder;
+
+		ResolvableType resolvableType;
+
+		XmlProject project;
+
+		byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			initBufferFactory();
+			this.encoder = new Jaxb2XmlEncoder();
+			this.decoder = new Jaxb2XmlDecoder();
+			this.decoder.setMaxInMemorySize(-1);
+			this.resolvableType = ResolvableType.forClass(XmlProject.class);
+			this.project = new XmlProject("spring", this.projectCount);
+			this.content = createContent();
+		}
+
+		byte[] createContent() throws Exception {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			createMarshaller().marshal(this.project, out);
+			return out.toByteArray();
+		}
+
+		Marshaller createMarshaller() throws Exception {
+			Marshaller marshaller = JAXBContext.newInstance(XmlProject.class).createMarshaller();
+			marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+			return marshaller;
+		}
+
+	}
+
+	@Benchmark
+	public void encodeValue(Blackhole bh, XmlData data) {
+		DataBuffer buffer = data.encoder.encodeValue(data.project, data.bufferFactory,
+				data.resolvableType, MediaType.APPLICATION_XML, Collections.emptyMap());
+		bh.consume(buffer);
+		DataBufferUtils.release(buffer);
+	}
+
+	@Benchmark
+	public Object decodeToMono(XmlData data) {
+		return data.decoder.decodeToMono(data.toDataBuffers(data.content, data.chunkSize),
+				data.resolvableType, MediaType.APPLICATION_XML, Collections.emptyMap()).block();
+	}
+
+	/**
+	 * Benchmark data holding a root element with a stream of {@link XmlProject} elements.
+	 */
+	@State(Scope.Benchmark)
+	public static class XmlStreamData extends XmlData {
+
+		@Param({"1", "50", "500"})
+		int streamSize;
+
+		@Override
+		byte[] createContent() throws Exception {
+			Marshaller marshaller = createMarshaller();
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			out.write("<projects>".getBytes());
+			for (int i = 0; i < this.streamSize; i++) {
+				marshaller.marshal(this.project, out);
+			}
+			out.write("</projects>".getBytes());
+			return out.toByteArray();
+		}
+
+	}
+
+	@Benchmark
+	public void decode(Blackhole bh, XmlStreamData data) {
+		data.decoder.decode(data.toDataBuffers(data.content, data.chunkSize),
+				data.resolvableType, MediaType.APPLICATION_XML, Collections.emptyMap())
+				.doOnNext(bh::consume)
+				.then().block();
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.xml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Sample JAXB Pojo for XML codec benchmarks.
+ */
+@XmlRootElement(name = "project")
+public class XmlProject {
+
+	private String name;
+
+	private String url;
+
+	private List<XmlProject> subProjects = Collections.emptyList();
+
+	public XmlProject() {
+	}
+
+	public XmlProject(String name) {
+		this.name = name;
+		this.url = "https://spring.io/projects/" + name;
+	}
+
+	public XmlProject(String name, int subProjectsCount) {
+		this(name);
+		this.subProjects = new ArrayList<>(subProjectsCount);
+		for (int i = 0; i < subProjectsCount; i++) {
+			this.subProjects.add(new XmlProject(name + i));
+		}
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	@XmlElement(name = "subProject")
+	public List<XmlProject> getSubProjects() {
+		return this.subProjects;
+	}
+
+	public void setSubProjects(List<XmlProject> subProjects) {
+		this.subProjects = subProjects;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public String getUrl() {
+		return this.url;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,7 +48,11 @@ import org.springframework.util.Assert;
  * {@linkplain Part#content() contents} of parts smaller than
  * {@link #setMaxInMemorySize(int) maxInMemorySize} in memory, and parts larger
  * than that to a temporary file in
- * {@link #setFileStorageDirectory(Path) fileStorageDirectory}.
+ * {@link #setFileStorageDirectory(Path) fileStorageDirectory}. For parts
+ * stored in a file, {@link FilePart#transferTo(Path)} moves the temporary file
+ * to its destination instead of copying it, which is a rename when both
+ * are located on the same file store. As with the temporary file, the
+ * destination is then only accessible to its owner on POSIX file systems.
  * <p>In {@linkplain #setStreaming(boolean) streaming} mode, the contents of the
  * part is streamed directly from the parsed input buffer stream, and not stored
  * in memory nor file.
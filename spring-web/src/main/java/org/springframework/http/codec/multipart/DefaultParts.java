@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -285,6 +286,13 @@ abstract class DefaultParts {
 
 	/**
 	 * {@code Content} implementation based on a file.
+	 * <p>The first {@link #transferTo(Path)} moves the file to the destination
+	 * rather than copying it, which amounts to a rename when both are on the
+	 * same file store. Subsequent access to the content is served from the
+	 * destination, and {@link #delete()} leaves the destination untouched.
+	 * <p>Since the file is created through {@link Files#createTempFile}, the
+	 * destination is readable and writable by the owner only on POSIX file
+	 * systems, just like a copy of the file would be.
 	 */
 	private static final class FileContent implements Content {
 
@@ -292,6 +300,9 @@ abstract class DefaultParts {
 
 		private final Scheduler scheduler;
 
+		@Nullable
+		private volatile Path transferredTo;
+
 
 		public FileContent(Path file, Scheduler scheduler) {
 			this.file = file;
@@ -302,24 +313,51 @@ abstract class DefaultParts {
 		@Override
 		public Flux<DataBuffer> content() {
 			return DataBufferUtils.readByteChannel(
-					() -> Files.newByteChannel(this.file, StandardOpenOption.READ),
+					() -> Files.newByteChannel(currentFile(), StandardOpenOption.READ),
 							DefaultDataBufferFactory.sharedInstance, 1024)
 					.subscribeOn(this.scheduler);
 		}
 
+		/**
+		 * Move the file to the given destination, replacing an existing file.
+		 * <p>The destination keeps the attributes of the temporary file, which
+		 * means owner-only permissions on POSIX file systems; set the permissions
+		 * of the destination afterwards if it needs to be accessible to others.
+		 * If the destination is located on a different file store, the file is
+		 * copied to the destination and then deleted instead.
+		 */
 		@Override
 		public Mono<Void> transferTo(Path dest) {
-			return blockingOperation(() -> Files.copy(this.file, dest, StandardCopyOption.REPLACE_EXISTING));
+			return blockingOperation(() -> {
+				synchronized (this) {
+					Path source = this.transferredTo;
+					if (source == null) {
+						Files.move(this.file, dest, StandardCopyOption.REPLACE_EXISTING);
+						this.transferredTo = dest;
+					}
+					else if (!source.equals(dest)) {
+						Files.copy(source, dest, StandardCopyOption.REPLACE_EXISTING);
+					}
+				}
+				return null;
+			});
 		}
 
 		@Override
 		public Mono<Void> delete() {
 			return blockingOperation(() -> {
-				Files.delete(this.file);
+				if (this.transferredTo == null) {
+					Files.delete(this.file);
+				}
 				return null;
 			});
 		}
 
+		private Path currentFile() {
+			Path transferredTo = this.transferredTo;
+			return (transferredTo != null ? transferredTo : this.file);
+		}
+
 		private Mono<Void> blockingOperation(Callable<?> callable) {
 			return Mono.<Void>create(sink -> {
 						try {
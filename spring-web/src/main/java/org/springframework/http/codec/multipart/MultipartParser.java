@@ -60,7 +60,7 @@ final class MultipartParser extends BaseSubscriber<DataBuffer> {
 
 	private static final byte[] TWO_HYPHENS = {HYPHEN, HYPHEN};
 
-	private static final String HEADER_ENTRY_SEPARATOR = "\\r\\n";
+	private static final String HEADER_ENTRY_SEPARATOR = "\r\n";
 
 	private static final Log logger = LogFactory.getLog(MultipartParser.class);
 
@@ -424,8 +424,9 @@ final class MultipartParser extends BaseSubscriber<DataBuffer> {
 
 		/**
 		 * Parses the list of buffers into a {@link HttpHeaders} instance.
-		 * Converts the joined buffers into a string using ISO=8859-1, and parses
-		 * that string into key and values.
+		 * Converts the joined buffers into a string using the configured
+		 * headers charset, and scans that string for header entries,
+		 * extracting only the names and values as substrings.
 		 */
 		private HttpHeaders parseHeaders() {
 			if (this.buffers.isEmpty()) {
@@ -435,18 +436,23 @@ final class MultipartParser extends BaseSubscriber<DataBuffer> {
 			this.buffers.clear();
 			String string = joined.toString(MultipartParser.this.headersCharset);
 			DataBufferUtils.release(joined);
-			String[] lines = string.split(HEADER_ENTRY_SEPARATOR);
 			HttpHeaders result = new HttpHeaders();
-			for (String line : lines) {
-				int idx = line.indexOf(':');
-				if (idx != -1) {
-					String name = line.substring(0, idx);
-					String value = line.substring(idx + 1);
-					while (value.startsWith(" ")) {
-						value = value.substring(1);
+			int length = string.length();
+			int lineStart = 0;
+			while (lineStart < length) {
+				int lineEnd = string.indexOf(HEADER_ENTRY_SEPARATOR, lineStart);
+				if (lineEnd == -1) {
+					lineEnd = length;
+				}
+				int idx = string.indexOf(':', lineStart);
+				if (idx != -1 && idx < lineEnd) {
+					int valueStart = idx + 1;
+					while (valueStart < lineEnd && string.charAt(valueStart) == ' ') {
+						valueStart++;
 					}
-					result.add(name, value);
+					result.add(string.substring(lineStart, idx), string.substring(valueStart, lineEnd));
 				}
+				lineStart = lineEnd + HEADER_ENTRY_SEPARATOR.length();
 			}
 			return result;
 		}
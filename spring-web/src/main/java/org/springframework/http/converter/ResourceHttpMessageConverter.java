@@ -131,6 +131,11 @@ public class ResourceHttpMessageConverter extends AbstractHttpMessageConverter<R
 
 	protected void writeContent(Resource resource, HttpOutputMessage outputMessage)
 			throws IOException, HttpMessageNotWritableException {
+		if (resource instanceof ByteArrayResource) {
+			// Content already in memory: write it out directly, without an intermediate buffer
+			StreamUtils.copy(((ByteArrayResource) resource).getByteArray(), outputMessage.getBody());
+			return;
+		}
 		// We cannot use try-with-resources here for the InputStream, since we have
 		// custom handling of the close() method in a finally-block.
 		try {
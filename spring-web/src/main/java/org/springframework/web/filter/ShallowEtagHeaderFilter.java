@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,25 @@
 
 package org.springframework.web.filter;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.ServletOutputStream;
 import javax.servlet.ServletRequest;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
@@ -64,6 +70,8 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 	private boolean writeWeakETag = false;
 
+	private int contentCacheLimit = -1;
+
 
 	/**
 	 * Set whether the ETag value written to the response should be weak, as per RFC 7232.
@@ -84,6 +92,31 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 		return this.writeWeakETag;
 	}
 
+	/**
+	 * Set the maximum number of bytes of response content to cache for ETag
+	 * calculation. When a response exceeds this limit, the content cached so
+	 * far is written to the response, caching is turned off for the rest of
+	 * the response, and no ETag is generated for it. The same applies as soon
+	 * as a content length above this limit is set on the response.
+	 * <p>By default this is set to -1, in which case the full response
+	 * content is always cached.
+	 * <p>Should be configured using an {@code <init-param>} for parameter name
+	 * "contentCacheLimit" in the filter definition in {@code web.xml}.
+	 * @param contentCacheLimit the maximum number of bytes to cache, or -1 for unlimited
+	 * @since 5.3.20
+	 */
+	public void setContentCacheLimit(int contentCacheLimit) {
+		this.contentCacheLimit = contentCacheLimit;
+	}
+
+	/**
+	 * Return the maximum number of bytes of response content to cache.
+	 * @since 5.3.20
+	 */
+	public int getContentCacheLimit() {
+		return this.contentCacheLimit;
+	}
+
 
 	/**
 	 * The default value is {@code false} so that the filter may delay the generation
@@ -100,13 +133,19 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 		HttpServletResponse responseToUse = response;
 		if (!isAsyncDispatch(request) && !(response instanceof ConditionalContentCachingResponseWrapper)) {
-			responseToUse = new ConditionalContentCachingResponseWrapper(response, request);
+			responseToUse = new ConditionalContentCachingResponseWrapper(response, request, this.contentCacheLimit);
 		}
 
 		filterChain.doFilter(request, responseToUse);
 
-		if (!isAsyncStarted(request) && !isContentCachingDisabled(request)) {
-			updateResponse(request, responseToUse);
+		if (!isAsyncStarted(request)) {
+			if (!isContentCachingDisabled(request)) {
+				updateResponse(request, responseToUse);
+			}
+			else if (responseToUse instanceof ConditionalContentCachingResponseWrapper) {
+				// Write content cached before caching was disabled, if not written yet
+				((ConditionalContentCachingResponseWrapper) responseToUse).stopContentCaching();
+			}
 		}
 	}
 
@@ -201,32 +240,275 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 	/**
 	 * Returns the raw OutputStream, instead of the one that does caching,
-	 * if {@link #isContentCachingDisabled}.
+	 * if {@link #isContentCachingDisabled}, or once the content cache limit
+	 * has been exceeded.
 	 */
 	private static class ConditionalContentCachingResponseWrapper extends ContentCachingResponseWrapper {
 
 		private final HttpServletRequest request;
 
-		ConditionalContentCachingResponseWrapper(HttpServletResponse response, HttpServletRequest request) {
+		private final int contentCacheLimit;
+
+		@Nullable
+		private LimitedContentCachingOutputStream outputStream;
+
+		@Nullable
+		private PrintWriter writer;
+
+		@Nullable
+		private Long passedThroughContentLength;
+
+		ConditionalContentCachingResponseWrapper(
+				HttpServletResponse response, HttpServletRequest request, int contentCacheLimit) {
+
 			super(response);
 			this.request = request;
+			this.contentCacheLimit = contentCacheLimit;
 		}
 
 		@Override
 		public ServletOutputStream getOutputStream() throws IOException {
-			return (isContentCachingDisabled(this.request) || hasETag() ?
-					getResponse().getOutputStream() : super.getOutputStream());
+			if (this.outputStream != null) {
+				return this.outputStream;
+			}
+			if (isContentCachingDisabled(this.request) || hasETag()) {
+				return getResponse().getOutputStream();
+			}
+			if (this.contentCacheLimit < 0) {
+				return super.getOutputStream();
+			}
+			this.outputStream = new LimitedContentCachingOutputStream(super.getOutputStream());
+			return this.outputStream;
 		}
 
 		@Override
 		public PrintWriter getWriter() throws IOException {
-			return (isContentCachingDisabled(this.request) || hasETag()?
-					getResponse().getWriter() : super.getWriter());
+			if (this.writer != null) {
+				return this.writer;
+			}
+			if (isContentCachingDisabled(this.request) || hasETag()) {
+				return getResponse().getWriter();
+			}
+			if (this.contentCacheLimit < 0) {
+				return super.getWriter();
+			}
+			String characterEncoding = getCharacterEncoding();
+			this.writer = new FlushingPrintWriter(getOutputStream(), (characterEncoding != null ?
+					characterEncoding : WebUtils.DEFAULT_CHARACTER_ENCODING));
+			return this.writer;
+		}
+
+		@Override
+		public void setContentLength(int len) {
+			if (passThroughContentLength(len)) {
+				getResponse().setContentLength(len);
+			}
+			else {
+				super.setContentLength(len);
+			}
+		}
+
+		@Override
+		public void setContentLengthLong(long len) {
+			if (passThroughContentLength(len)) {
+				getResponse().setContentLengthLong(len);
+			}
+			else {
+				super.setContentLengthLong(len);
+			}
+		}
+
+		@Override
+		public void setBufferSize(int size) {
+			if (this.contentCacheLimit >= 0 && size > this.contentCacheLimit) {
+				getResponse().setBufferSize(size);
+			}
+			else {
+				super.setBufferSize(size);
+			}
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			if (isContentCachingDisabled(this.request)) {
+				stopContentCaching();
+				getResponse().flushBuffer();
+			}
+			else {
+				super.flushBuffer();
+			}
 		}
 
 		private boolean hasETag() {
 			return StringUtils.hasText(getHeader(HttpHeaders.ETAG));
 		}
+
+		/**
+		 * Check whether the declared content length needs to be passed through to
+		 * the response, disabling content caching up front if the length exceeds the
+		 * content cache limit rather than allocating a buffer for the entire content.
+		 * Content cached so far is written to the response on the next write or flush.
+		 */
+		private boolean passThroughContentLength(long contentLength) {
+			if (this.contentCacheLimit < 0) {
+				return false;
+			}
+			if (!isContentCachingDisabled(this.request)) {
+				if (contentLength <= this.contentCacheLimit) {
+					return false;
+				}
+				disableContentCaching(this.request);
+			}
+			this.passedThroughContentLength = contentLength;
+			return true;
+		}
+
+		/**
+		 * Disable content caching, write all content cached so far to the response,
+		 * and let subsequent content be written directly to it.
+		 */
+		private void stopContentCaching() throws IOException {
+			disableContentCaching(this.request);
+			if (this.outputStream != null && this.outputStream.target == this.outputStream.cachingStream) {
+				copyBodyToResponse(false);
+				if (this.passedThroughContentLength != null && !isCommitted()) {
+					// Keep the content length passed through rather than one declared before
+					getResponse().setContentLengthLong(this.passedThroughContentLength);
+				}
+				this.outputStream.target = getResponse().getOutputStream();
+			}
+		}
+
+
+		/**
+		 * Caches content up to the limit, or until content caching is disabled,
+		 * then writes all content cached so far to the response and switches to
+		 * writing directly to it.
+		 */
+		private class LimitedContentCachingOutputStream extends ServletOutputStream {
+
+			private final ServletOutputStream cachingStream;
+
+			private ServletOutputStream target;
+
+			LimitedContentCachingOutputStream(ServletOutputStream cachingStream) {
+				this.cachingStream = cachingStream;
+				this.target = cachingStream;
+			}
+
+			@Override
+			public void write(int b) throws IOException {
+				checkContentCaching(1);
+				this.target.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				checkContentCaching(len);
+				this.target.write(b, off, len);
+			}
+
+			private void checkContentCaching(int len) throws IOException {
+				if (this.target == this.cachingStream &&
+						(isContentCachingDisabled(request) || getContentSize() + len > contentCacheLimit)) {
+					stopContentCaching();
+				}
+			}
+
+			@Override
+			public void flush() throws IOException {
+				checkContentCaching(0);
+				if (this.target != this.cachingStream) {
+					this.target.flush();
+				}
+			}
+
+			@Override
+			public void close() throws IOException {
+				checkContentCaching(0);
+				if (this.target != this.cachingStream) {
+					this.target.close();
+				}
+			}
+
+			@Override
+			public boolean isReady() {
+				return this.target.isReady();
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+				this.target.setWriteListener(writeListener);
+			}
+		}
+
+
+		/**
+		 * Writer that passes encoded content on to the underlying stream after each
+		 * write so that it is always visible there, in line with the content caching
+		 * writer. Only an explicit {@link #flush()} flushes the underlying stream.
+		 */
+		private static class FlushingPrintWriter extends PrintWriter {
+
+			private final OutputStream outputStream;
+
+			FlushingPrintWriter(OutputStream outputStream, String characterEncoding)
+					throws UnsupportedEncodingException {
+
+				super(new OutputStreamWriter(new NonFlushingOutputStream(outputStream), characterEncoding));
+				this.outputStream = outputStream;
+			}
+
+			@Override
+			public void flush() {
+				super.flush();
+				try {
+					this.outputStream.flush();
+				}
+				catch (IOException ex) {
+					setError();
+				}
+			}
+
+			@Override
+			public void write(char[] buf, int off, int len) {
+				super.write(buf, off, len);
+				super.flush();
+			}
+
+			@Override
+			public void write(String s, int off, int len) {
+				super.write(s, off, len);
+				super.flush();
+			}
+
+			@Override
+			public void write(int c) {
+				super.write(c);
+				super.flush();
+			}
+		}
+
+
+		/**
+		 * OutputStream that does not propagate {@link #flush()} calls, used for
+		 * passing on encoded content without flushing the response.
+		 */
+		private static class NonFlushingOutputStream extends FilterOutputStream {
+
+			NonFlushingOutputStream(OutputStream out) {
+				super(out);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				this.out.write(b, off, len);
+			}
+
+			@Override
+			public void flush() {
+			}
+		}
 	}
 
 }
@@ -23,7 +23,11 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -55,6 +59,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.springframework.core.ResolvableType.forClass;
@@ -297,6 +302,72 @@ class DefaultPartHttpMessageReaderTests  {
 		latch.await();
 	}
 
+	@Test
+	void transferToMovesStoredFile() throws Exception {
+		MockServerHttpRequest request = createRequest(
+				new ClassPathResource("files.multipart", getClass()), "----WebKitFormBoundaryG8fJ50opQOML0oGD");
+
+		DefaultPartHttpMessageReader reader = new DefaultPartHttpMessageReader();
+		reader.setMaxInMemorySize(10);
+
+		List<Part> parts = reader.read(forClass(Part.class), request, emptyMap())
+				.collectList()
+				.block(Duration.ofSeconds(5));
+		assertThat(parts).hasSize(2);
+		assertThat(parts.get(0)).isInstanceOf(FilePart.class);
+		FilePart filePart = (FilePart) parts.get(0);
+
+		Path dest = Files.createTempFile("DefaultPartHttpMessageReaderTests", null);
+		try {
+			filePart.transferTo(dest).block(Duration.ofSeconds(5));
+			verifyContents(dest, LOREM_IPSUM);
+
+			CountDownLatch latch = new CountDownLatch(1);
+			testPart(filePart, "file2", LOREM_IPSUM, latch);
+			latch.await();
+
+			filePart.delete().block(Duration.ofSeconds(5));
+			assertThat(dest).exists();
+			verifyContents(dest, LOREM_IPSUM);
+		}
+		finally {
+			Files.deleteIfExists(dest);
+			parts.get(1).delete().block(Duration.ofSeconds(5));
+		}
+	}
+
+	@Test
+	void transferToKeepsOwnerOnlyPermissions() throws Exception {
+		Path dest = Files.createTempFile("DefaultPartHttpMessageReaderTests", null);
+		assumeTrue(Files.getFileStore(dest).supportsFileAttributeView("posix"),
+				"Test requires a POSIX file system");
+		Files.setPosixFilePermissions(dest, EnumSet.of(PosixFilePermission.OWNER_READ,
+				PosixFilePermission.OWNER_WRITE, PosixFilePermission.GROUP_READ, PosixFilePermission.OTHERS_READ));
+
+		MockServerHttpRequest request = createRequest(
+				new ClassPathResource("files.multipart", getClass()), "----WebKitFormBoundaryG8fJ50opQOML0oGD");
+
+		DefaultPartHttpMessageReader reader = new DefaultPartHttpMessageReader();
+		reader.setMaxInMemorySize(10);
+
+		List<Part> parts = reader.read(forClass(Part.class), request, emptyMap())
+				.collectList()
+				.block(Duration.ofSeconds(5));
+		assertThat(parts).hasSize(2);
+		FilePart filePart = (FilePart) parts.get(0);
+
+		try {
+			filePart.transferTo(dest).block(Duration.ofSeconds(5));
+			verifyContents(dest, LOREM_IPSUM);
+			assertThat(Files.getPosixFilePermissions(dest))
+					.isEqualTo(EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE));
+		}
+		finally {
+			Files.deleteIfExists(dest);
+			parts.get(1).delete().block(Duration.ofSeconds(5));
+		}
+	}
+
 	private void testBrowser(DefaultPartHttpMessageReader reader, Resource resource, String boundary)
 			throws InterruptedException {
 
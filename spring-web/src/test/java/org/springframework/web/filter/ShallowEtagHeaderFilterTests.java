@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StreamUtils;
 import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -184,6 +185,173 @@ public class ShallowEtagHeaderFilterTests {
 		assertThat(response.getContentAsByteArray()).isEqualTo(responseBody);
 	}
 
+	@Test
+	public void filterWithinContentCacheLimit() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		byte[] responseBody = "Hello World".getBytes(StandardCharsets.UTF_8);
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			FileCopyUtils.copy(responseBody, filterResponse.getOutputStream());
+		};
+
+		this.filter.setContentCacheLimit(responseBody.length);
+		this.filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("ETag")).isEqualTo("\"0b10a8db164e0754105b7a99be72e3fe5\"");
+		assertThat(response.getContentAsByteArray()).isEqualTo(responseBody);
+	}
+
+	@Test
+	public void filterExceedingContentCacheLimit() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getOutputStream().write("Hello".getBytes(StandardCharsets.UTF_8));
+			filterResponse.getOutputStream().write(" World".getBytes(StandardCharsets.UTF_8));
+		};
+
+		this.filter.setContentCacheLimit(8);
+		this.filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("ETag")).isNull();
+		assertThat(response.getContentAsString()).isEqualTo("Hello World");
+	}
+
+	@Test
+	public void filterWriterExceedingContentCacheLimit() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		request.addHeader("If-None-Match", "\"0b10a8db164e0754105b7a99be72e3fe5\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getWriter().write("Hello");
+			filterResponse.getWriter().write(" World");
+		};
+
+		this.filter.setContentCacheLimit(8);
+		this.filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("ETag")).isNull();
+		assertThat(response.getContentAsString()).isEqualTo("Hello World");
+	}
+
+	@Test
+	public void filterFlushExceedingContentCacheLimit() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getOutputStream().write("Hello".getBytes(StandardCharsets.UTF_8));
+			filterResponse.getOutputStream().flush();
+			assertThat(response.isCommitted()).isFalse();
+			filterResponse.getOutputStream().write(" World".getBytes(StandardCharsets.UTF_8));
+			filterResponse.getOutputStream().flush();
+			assertThat(response.isCommitted()).isTrue();
+			filterResponse.getOutputStream().close();
+		};
+
+		this.filter.setContentCacheLimit(8);
+		this.filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getHeader("ETag")).isNull();
+		assertThat(response.getContentAsString()).isEqualTo("Hello World");
+	}
+
+	@Test
+	public void filterWriterFlushExceedingContentCacheLimit() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getWriter().write("Hello World");
+			assertThat(response.isCommitted()).isFalse();
+			filterResponse.getWriter().flush();
+			assertThat(response.isCommitted()).isTrue();
+		};
+
+		this.filter.setContentCacheLimit(8);
+		this.filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getHeader("ETag")).isNull();
+		assertThat(response.getContentAsString()).isEqualTo("Hello World");
+	}
+
+	@Test
+	public void filterFlushBufferExceedingContentCacheLimit() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getOutputStream().write("Hello World".getBytes(StandardCharsets.UTF_8));
+			filterResponse.flushBuffer();
+			assertThat(response.isCommitted()).isTrue();
+		};
+
+		this.filter.setContentCacheLimit(8);
+		this.filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getHeader("ETag")).isNull();
+		assertThat(response.getContentAsString()).isEqualTo("Hello World");
+	}
+
+	@Test
+	public void filterContentLengthExceedingContentCacheLimit() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		byte[] responseBody = "Hello World".getBytes(StandardCharsets.UTF_8);
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.setContentLength(responseBody.length);
+			assertThat(response.getContentLength()).isEqualTo(responseBody.length);
+			assertThat(((ContentCachingResponseWrapper) filterResponse).getContentSize()).isEqualTo(0);
+			filterResponse.getOutputStream().write(responseBody);
+			assertThat(((ContentCachingResponseWrapper) filterResponse).getContentSize()).isEqualTo(0);
+		};
+
+		this.filter.setContentCacheLimit(8);
+		this.filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("ETag")).isNull();
+		assertThat(response.getContentLength()).isEqualTo(responseBody.length);
+		assertThat(response.getContentAsByteArray()).isEqualTo(responseBody);
+	}
+
+	@Test
+	public void filterContentLengthExceedingContentCacheLimitAfterWrite() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		byte[] responseBody = "Hello World".getBytes(StandardCharsets.UTF_8);
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			((HttpServletResponse) filterResponse).setStatus(HttpServletResponse.SC_OK);
+			filterResponse.getOutputStream().write(responseBody, 0, 5);
+			filterResponse.setContentLength(responseBody.length);
+			assertThat(response.getContentLength()).isEqualTo(responseBody.length);
+			assertThat(response.getContentAsByteArray()).isEmpty();
+		};
+
+		this.filter.setContentCacheLimit(8);
+		this.filter.doFilter(request, response, filterChain);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("ETag")).isNull();
+		assertThat(response.getContentLength()).isEqualTo(responseBody.length);
+		assertThat(response.getContentAsString()).isEqualTo("Hello");
+	}
+
 	@Test
 	public void filterSendError() throws Exception {
 		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 
 package org.springframework.web.reactive.resource;
 
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -31,6 +35,9 @@ import org.springframework.util.StreamUtils;
  * of the resource and appends it to the file name, e.g.
  * {@code "styles/main-e36d2e05253c6c7085a91522ce43a0b4.css"}.
  *
+ * <p>Calculated versions are cached per resource, and recalculated only when
+ * the content length or the last-modified timestamp of the resource changes.
+ *
  * @author Rossen Stoyanchev
  * @author Brian Clozel
  * @since 5.0
@@ -38,9 +45,35 @@ import org.springframework.util.StreamUtils;
  */
 public class ContentVersionStrategy extends AbstractFileNameVersionStrategy {
 
+	private final Map<Resource, CachedVersion> versionCache = new ConcurrentHashMap<>(256);
+
 
 	@Override
 	public Mono<String> getResourceVersion(Resource resource) {
+		if (resource.isOpen()) {
+			// Single-use stream: cannot check for modifications
+			return calculateVersion(resource);
+		}
+		long contentLength;
+		long lastModified;
+		try {
+			contentLength = resource.contentLength();
+			lastModified = resource.lastModified();
+		}
+		catch (IOException ex) {
+			// Not able to check for modifications: calculate without caching
+			return calculateVersion(resource);
+		}
+
+		CachedVersion cachedVersion = this.versionCache.get(resource);
+		if (cachedVersion != null && cachedVersion.matches(contentLength, lastModified)) {
+			return Mono.just(cachedVersion.version);
+		}
+		return calculateVersion(resource).doOnNext(version ->
+				this.versionCache.put(resource, new CachedVersion(contentLength, lastModified, version)));
+	}
+
+	private Mono<String> calculateVersion(Resource resource) {
 		Flux<DataBuffer> flux = DataBufferUtils.read(
 				resource, DefaultDataBufferFactory.sharedInstance, StreamUtils.BUFFER_SIZE);
 
@@ -53,4 +86,27 @@ public class ContentVersionStrategy extends AbstractFileNameVersionStrategy {
 				});
 	}
 
+
+	/**
+	 * A calculated version along with the resource state it was calculated for.
+	 */
+	private static final class CachedVersion {
+
+		private final long contentLength;
+
+		private final long lastModified;
+
+		private final String version;
+
+		CachedVersion(long contentLength, long lastModified, String version) {
+			this.contentLength = contentLength;
+			this.lastModified = lastModified;
+			this.version = version;
+		}
+
+		boolean matches(long contentLength, long lastModified) {
+			return (this.contentLength == contentLength && this.lastModified == lastModified);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,17 @@
 
 package org.springframework.web.reactive.resource;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.DigestUtils;
 import org.springframework.util.FileCopyUtils;
@@ -69,6 +74,21 @@ public class ContentBasedVersionStrategyTests {
 		assertThat(this.strategy.getResourceVersion(expected).block()).isEqualTo(hash);
 	}
 
+	@Test
+	public void getResourceVersionRecalculatedWhenModified(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("bar.css");
+		Files.write(file, "h1 { color:red; }".getBytes(StandardCharsets.UTF_8));
+		Resource resource = new FileSystemResource(file);
+
+		String version = this.strategy.getResourceVersion(resource).block();
+		assertThat(this.strategy.getResourceVersion(resource).block()).isEqualTo(version);
+
+		Files.write(file, "h1 { color:blue; }".getBytes(StandardCharsets.UTF_8));
+		assertThat(this.strategy.getResourceVersion(resource).block())
+				.isEqualTo(DigestUtils.md5DigestAsHex(Files.readAllBytes(file)))
+				.isNotEqualTo(version);
+	}
+
 	@Test
 	public void addVersionToUrl() {
 		assertThat(this.strategy.addVersion("test/bar.css", "123")).isEqualTo("test/bar-123.css");
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.web.servlet.resource;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -26,10 +28,12 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -58,6 +62,8 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 
 	private final List<String> contentCodings = new ArrayList<>(EncodedResourceResolver.DEFAULT_CODINGS);
 
+	private int maxCachedContentSize = -1;
+
 
 	public CachingResourceResolver(Cache cache) {
 		Assert.notNull(cache, "Cache is required");
@@ -104,6 +110,33 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 		return Collections.unmodifiableList(this.contentCodings);
 	}
 
+	/**
+	 * Configure the maximum size in bytes of resources whose content should
+	 * be cached along with the resolved {@code Resource}, so that they can be
+	 * served without accessing the underlying file again.
+	 * <p>The cached content, as well as the content length, last-modified
+	 * timestamp and any {@link HttpResource#getResponseHeaders() response headers}
+	 * such as {@code Content-Encoding} for pre-compressed variants, are captured
+	 * once when the resource is first resolved and not refreshed afterwards.
+	 * <p>By default this is set to -1, in which case only the resource lookup
+	 * is cached.
+	 * @param maxCachedContentSize the maximum content size in bytes, or -1 to
+	 * disable content caching
+	 * @since 5.3.20
+	 */
+	public void setMaxCachedContentSize(int maxCachedContentSize) {
+		this.maxCachedContentSize = maxCachedContentSize;
+	}
+
+	/**
+	 * Return the {@link #setMaxCachedContentSize configured} maximum size of
+	 * resources whose content is cached.
+	 * @since 5.3.20
+	 */
+	public int getMaxCachedContentSize() {
+		return this.maxCachedContentSize;
+	}
+
 
 	@Override
 	protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
@@ -121,12 +154,37 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 
 		resource = chain.resolveResource(request, requestPath, locations);
 		if (resource != null) {
+			resource = cacheContentIfNecessary(resource);
 			this.cache.put(key, resource);
 		}
 
 		return resource;
 	}
 
+	private Resource cacheContentIfNecessary(Resource resource) {
+		if (this.maxCachedContentSize < 0 || resource instanceof ByteArrayResource) {
+			return resource;
+		}
+		try {
+			if (resource.contentLength() > this.maxCachedContentSize) {
+				return resource;
+			}
+			// Check up front: TransformedResource rethrows an IOException as IllegalArgumentException
+			resource.lastModified();
+			byte[] content;
+			try (InputStream in = resource.getInputStream()) {
+				content = StreamUtils.copyToByteArray(in);
+			}
+			return new CachedContentResource(resource, content);
+		}
+		catch (IOException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to cache content of " + resource + ": " + ex.getMessage());
+			}
+			return resource;
+		}
+	}
+
 	protected String computeKey(@Nullable HttpServletRequest request, String requestPath) {
 		if (request != null) {
 			String codingKey = getContentCodingKey(request);
@@ -175,4 +233,46 @@ public class CachingResourceResolver extends AbstractResourceResolver {
 		return resolvedUrlPath;
 	}
 
+
+	/**
+	 * {@link TransformedResource} holding the cached content of a resolved
+	 * resource, along with a snapshot of its HTTP response headers.
+	 */
+	private static final class CachedContentResource extends TransformedResource implements HttpResource {
+
+		private final Resource original;
+
+		private final HttpHeaders responseHeaders;
+
+		CachedContentResource(Resource original, byte[] content) {
+			super(original, content);
+			this.original = original;
+			this.responseHeaders = (original instanceof HttpResource ?
+					((HttpResource) original).getResponseHeaders() : HttpHeaders.EMPTY);
+		}
+
+		@Override
+		public HttpHeaders getResponseHeaders() {
+			HttpHeaders headers = new HttpHeaders();
+			headers.addAll(this.responseHeaders);
+			return headers;
+		}
+
+		@Override
+		public String getDescription() {
+			return "Cached content of " + this.original.getDescription();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof CachedContentResource &&
+					this.original.equals(((CachedContentResource) other).original)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.original.hashCode();
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,21 @@
 package org.springframework.web.servlet.resource;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.io.Resource;
 import org.springframework.util.DigestUtils;
-import org.springframework.util.FileCopyUtils;
 
 /**
  * A {@code VersionStrategy} that calculates an Hex MD5 hashes from the content
  * of the resource and appends it to the file name, e.g.
  * {@code "styles/main-e36d2e05253c6c7085a91522ce43a0b4.css"}.
  *
+ * <p>Calculated versions are cached per resource, and recalculated only when
+ * the content length or the last-modified timestamp of the resource changes.
+ *
  * @author Brian Clozel
  * @author Rossen Stoyanchev
  * @since 4.1
@@ -34,19 +39,69 @@ import org.springframework.util.FileCopyUtils;
  */
 public class ContentVersionStrategy extends AbstractVersionStrategy {
 
+	private final Map<Resource, CachedVersion> versionCache = new ConcurrentHashMap<>(256);
+
+
 	public ContentVersionStrategy() {
 		super(new FileNameVersionPathStrategy());
 	}
 
 	@Override
 	public String getResourceVersion(Resource resource) {
+		if (resource.isOpen()) {
+			// Single-use stream: cannot check for modifications
+			return calculateVersion(resource);
+		}
+		long contentLength;
+		long lastModified;
 		try {
-			byte[] content = FileCopyUtils.copyToByteArray(resource.getInputStream());
-			return DigestUtils.md5DigestAsHex(content);
+			contentLength = resource.contentLength();
+			lastModified = resource.lastModified();
+		}
+		catch (IOException ex) {
+			// Not able to check for modifications: calculate without caching
+			return calculateVersion(resource);
+		}
+
+		CachedVersion cachedVersion = this.versionCache.get(resource);
+		if (cachedVersion != null && cachedVersion.matches(contentLength, lastModified)) {
+			return cachedVersion.version;
+		}
+		String version = calculateVersion(resource);
+		this.versionCache.put(resource, new CachedVersion(contentLength, lastModified, version));
+		return version;
+	}
+
+	private String calculateVersion(Resource resource) {
+		try (InputStream inputStream = resource.getInputStream()) {
+			return DigestUtils.md5DigestAsHex(inputStream);
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException("Failed to calculate hash for " + resource, ex);
 		}
 	}
 
+
+	/**
+	 * A calculated version along with the resource state it was calculated for.
+	 */
+	private static final class CachedVersion {
+
+		private final long contentLength;
+
+		private final long lastModified;
+
+		private final String version;
+
+		CachedVersion(long contentLength, long lastModified, String version) {
+			this.contentLength = contentLength;
+			this.lastModified = lastModified;
+			this.version = version;
+		}
+
+		boolean matches(long contentLength, long lastModified) {
+			return (this.contentLength == contentLength && this.lastModified == lastModified);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.web.servlet.resource;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,8 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.FileCopyUtils;
 import org.springframework.web.servlet.resource.GzipSupport.GzippedFiles;
 import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 
@@ -170,6 +173,79 @@ public class CachingResourceResolverTests {
 		assertThat(this.chain.resolveResource(request, "bar.css", this.locations)).isSameAs(gzipped);
 	}
 
+	@Test
+	public void resolveResourceWithCachedContent() throws IOException {
+		ResourceResolverChain chain = initChainWithCachedContent(1024);
+		Resource original = new ClassPathResource("test/bar.css", getClass());
+		Resource actual = chain.resolveResource(null, "bar.css", this.locations);
+
+		assertThat(actual).isInstanceOf(TransformedResource.class);
+		assertThat(actual.getFilename()).isEqualTo(original.getFilename());
+		assertThat(actual.lastModified()).isEqualTo(original.lastModified());
+		assertThat(actual.contentLength()).isEqualTo(original.contentLength());
+		assertThat(((TransformedResource) actual).getByteArray())
+				.isEqualTo(FileCopyUtils.copyToByteArray(original.getInputStream()));
+		assertThat(chain.resolveResource(null, "bar.css", this.locations)).isSameAs(actual);
+	}
+
+	@Test
+	public void resolveResourceWithContentExceedingCachedContentSize() {
+		ResourceResolverChain chain = initChainWithCachedContent(1);
+		Resource actual = chain.resolveResource(null, "bar.css", this.locations);
+
+		assertThat(actual).isNotInstanceOf(TransformedResource.class);
+		assertThat(actual).isEqualTo(new ClassPathResource("test/bar.css", getClass()));
+	}
+
+	@Test
+	public void resolveEncodedResourceWithCachedContent(GzippedFiles gzippedFiles) throws IOException {
+		String file = "bar.css";
+		gzippedFiles.create(file);
+
+		CachingResourceResolver cachingResolver = new CachingResourceResolver(this.cache);
+		cachingResolver.setMaxCachedContentSize(1024);
+		ResourceResolverChain chain = new DefaultResourceResolverChain(
+				Arrays.asList(cachingResolver, new EncodedResourceResolver(), new PathResourceResolver()));
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", file);
+		request.addHeader("Accept-Encoding", "gzip");
+		Resource actual = chain.resolveResource(request, file, this.locations);
+
+		assertThat(actual).isInstanceOf(TransformedResource.class).isInstanceOf(HttpResource.class);
+		assertThat(actual.getFilename()).isEqualTo(file);
+		assertThat(actual.contentLength())
+				.isEqualTo(new ClassPathResource("test/bar.css.gz", getClass()).contentLength());
+		HttpHeaders headers = ((HttpResource) actual).getResponseHeaders();
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(headers.getFirst(HttpHeaders.VARY)).isEqualTo("Accept-Encoding");
+	}
+
+	@Test
+	public void resolveResourceWithCachedContentAndLastModifiedFailure() {
+		Resource original = new ClassPathResource("test/bar.css", getClass()) {
+			@Override
+			public long lastModified() throws IOException {
+				throw new IOException("Last-modified timestamp not available");
+			}
+		};
+		ResourceResolver resolver = Mockito.mock(ResourceResolver.class);
+		Mockito.when(resolver.resolveResource(Mockito.isNull(), Mockito.eq("bar.css"),
+				Mockito.eq(this.locations), Mockito.any())).thenReturn(original);
+
+		CachingResourceResolver cachingResolver = new CachingResourceResolver(this.cache);
+		cachingResolver.setMaxCachedContentSize(1024);
+		ResourceResolverChain chain = new DefaultResourceResolverChain(Arrays.asList(cachingResolver, resolver));
+
+		assertThat(chain.resolveResource(null, "bar.css", this.locations)).isSameAs(original);
+		assertThat(this.cache.get(resourceKey("bar.css")).get()).isSameAs(original);
+	}
+
+	private ResourceResolverChain initChainWithCachedContent(int maxCachedContentSize) {
+		CachingResourceResolver cachingResolver = new CachingResourceResolver(this.cache);
+		cachingResolver.setMaxCachedContentSize(maxCachedContentSize);
+		return new DefaultResourceResolverChain(Arrays.asList(cachingResolver, new PathResourceResolver()));
+	}
+
 	private static String resourceKey(String key) {
 		return CachingResourceResolver.RESOLVED_RESOURCE_CACHE_KEY_PREFIX + key;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,19 @@
 package org.springframework.web.servlet.resource;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.DigestUtils;
 import org.springframework.util.FileCopyUtils;
@@ -71,6 +78,30 @@ public class ContentBasedVersionStrategyTests {
 		assertThat(this.versionStrategy.getResourceVersion(expected)).isEqualTo(hash);
 	}
 
+	@Test
+	public void getResourceVersionCachedUntilModified(@TempDir Path tempDir) throws IOException {
+		Path file = tempDir.resolve("bar.css");
+		Files.write(file, "h1 { color:red; }".getBytes(StandardCharsets.UTF_8));
+		AtomicInteger reads = new AtomicInteger();
+		Resource resource = new FileSystemResource(file) {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				reads.incrementAndGet();
+				return super.getInputStream();
+			}
+		};
+
+		String version = this.versionStrategy.getResourceVersion(resource);
+		assertThat(this.versionStrategy.getResourceVersion(resource)).isEqualTo(version);
+		assertThat(reads.get()).isEqualTo(1);
+
+		Files.write(file, "h1 { color:blue; }".getBytes(StandardCharsets.UTF_8));
+		assertThat(this.versionStrategy.getResourceVersion(resource))
+				.isEqualTo(DigestUtils.md5DigestAsHex(Files.readAllBytes(file)))
+				.isNotEqualTo(version);
+		assertThat(reads.get()).isEqualTo(2);
+	}
+
 	@Test
 	public void addVersionToUrl() {
 		assertThat(this.versionStrategy.addVersion("test/bar.css", "123")).isEqualTo("test/bar-123.css");
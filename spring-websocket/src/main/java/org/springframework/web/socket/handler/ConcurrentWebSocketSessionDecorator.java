@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,9 @@ package org.springframework.web.socket.handler;
 import java.io.IOException;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -64,6 +66,10 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 
 	private final AtomicInteger bufferSize = new AtomicInteger();
 
+	private final AtomicLong sentMessageCount = new AtomicLong();
+
+	private final AtomicLong totalSendTimeNanos = new AtomicLong();
+
 	private volatile long sendStartTime;
 
 	private volatile boolean limitExceeded;
@@ -127,6 +133,32 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 		return this.bufferSize.get();
 	}
 
+	/**
+	 * Return the number of messages currently in the send buffer.
+	 * @since 5.3.20
+	 */
+	public int getBufferedMessageCount() {
+		return this.buffer.size();
+	}
+
+	/**
+	 * Return the number of messages sent to the underlying session so far.
+	 * @since 5.3.20
+	 */
+	public long getSentMessageCount() {
+		return this.sentMessageCount.get();
+	}
+
+	/**
+	 * Return the total time (milliseconds) spent in sending messages to the
+	 * underlying session, e.g. to calculate the average send time together
+	 * with {@link #getSentMessageCount()}.
+	 * @since 5.3.20
+	 */
+	public long getTotalSendTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.totalSendTimeNanos.get());
+	}
+
 	/**
 	 * Return the time (milliseconds) since the current send started,
 	 * or 0 if no send is currently in progress.
@@ -186,9 +218,12 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 						break;
 					}
 					this.bufferSize.addAndGet(-message.getPayloadLength());
+					long start = System.nanoTime();
 					this.sendStartTime = System.currentTimeMillis();
 					getDelegate().sendMessage(message);
 					this.sendStartTime = 0;
+					this.totalSendTimeNanos.addAndGet(System.nanoTime() - start);
+					this.sentMessageCount.incrementAndGet();
 				}
 			}
 			finally {
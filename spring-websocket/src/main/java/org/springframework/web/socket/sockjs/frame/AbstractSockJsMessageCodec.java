@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,15 +27,22 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractSockJsMessageCodec implements SockJsMessageCodec {
 
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+
 	@Override
 	public String encode(String... messages) {
 		Assert.notNull(messages, "messages must not be null");
-		StringBuilder sb = new StringBuilder();
+		int capacity = 3;
+		for (String message : messages) {
+			capacity += message.length() + 3;
+		}
+		StringBuilder sb = new StringBuilder(capacity);
 		sb.append("a[");
 		for (int i = 0; i < messages.length; i++) {
 			sb.append('"');
 			char[] quotedChars = applyJsonQuoting(messages[i]);
-			sb.append(escapeSockJsSpecialChars(quotedChars));
+			appendEscapingSockJsSpecialChars(quotedChars, sb);
 			sb.append('"');
 			if (i < messages.length - 1) {
 				sb.append(',');
@@ -53,22 +60,19 @@ public abstract class AbstractSockJsMessageCodec implements SockJsMessageCodec {
 	/**
 	 * See "JSON Unicode Encoding" section of SockJS protocol.
 	 */
-	private String escapeSockJsSpecialChars(char[] characters) {
-		StringBuilder result = new StringBuilder();
+	private void appendEscapingSockJsSpecialChars(char[] characters, StringBuilder result) {
 		for (char c : characters) {
 			if (isSockJsSpecialChar(c)) {
 				result.append('\\').append('u');
-				String hex = Integer.toHexString(c).toLowerCase();
-				for (int i = 0; i < (4 - hex.length()); i++) {
-					result.append('0');
-				}
-				result.append(hex);
+				result.append(HEX_DIGITS[(c >> 12) & 0xF]);
+				result.append(HEX_DIGITS[(c >> 8) & 0xF]);
+				result.append(HEX_DIGITS[(c >> 4) & 0xF]);
+				result.append(HEX_DIGITS[c & 0xF]);
 			}
 			else {
 				result.append(c);
 			}
 		}
-		return result.toString();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2013 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.web.socket.sockjs.frame;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -30,16 +31,36 @@ public class DefaultSockJsFrameFormat implements SockJsFrameFormat {
 
 	private final String format;
 
+	// Prefix and suffix around a single "%s" placeholder, or null if String.format is required
+	@Nullable
+	private final String prefix;
+
+	@Nullable
+	private final String suffix;
+
 
 	public DefaultSockJsFrameFormat(String format) {
 		Assert.notNull(format, "format must not be null");
 		this.format = format;
+		int index = format.indexOf("%s");
+		if (index != -1 && format.indexOf('%') == index && format.indexOf('%', index + 2) == -1) {
+			this.prefix = format.substring(0, index);
+			this.suffix = format.substring(index + 2);
+		}
+		else {
+			this.prefix = null;
+			this.suffix = null;
+		}
 	}
 
 
 	@Override
 	public String format(SockJsFrame frame) {
-		return String.format(this.format, preProcessContent(frame.getContent()));
+		String content = preProcessContent(frame.getContent());
+		if (this.prefix != null && this.suffix != null) {
+			return this.prefix + content + this.suffix;
+		}
+		return String.format(this.format, content);
 	}
 
 	protected String preProcessContent(String content) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2017 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -68,9 +68,9 @@ public abstract class StreamingSockJsSession extends AbstractHttpSockJsSession {
 
 	@Override
 	protected void flushCache() throws SockJsTransportFailureException {
+		SockJsMessageCodec messageCodec = getSockJsServiceConfig().getMessageCodec();
 		while (!getMessageCache().isEmpty()) {
 			String message = getMessageCache().poll();
-			SockJsMessageCodec messageCodec = getSockJsServiceConfig().getMessageCodec();
 			SockJsFrame frame = SockJsFrame.messageFrame(messageCodec, message);
 			writeFrame(frame);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,8 @@ public class ConcurrentWebSocketSessionDecoratorTests {
 		assertThat(session.getSentMessages().get(0)).isEqualTo(textMessage);
 
 		assertThat(decorator.getBufferSize()).isEqualTo(0);
+		assertThat(decorator.getBufferedMessageCount()).isEqualTo(0);
+		assertThat(decorator.getSentMessageCount()).isEqualTo(1);
 		assertThat(decorator.getTimeSinceSendStarted()).isEqualTo(0);
 		assertThat(session.isOpen()).isTrue();
 	}
@@ -79,6 +81,8 @@ public class ConcurrentWebSocketSessionDecoratorTests {
 
 		assertThat(decorator.getTimeSinceSendStarted() > 0).isTrue();
 		assertThat(decorator.getBufferSize()).isEqualTo((5 * payload.getPayloadLength()));
+		assertThat(decorator.getBufferedMessageCount()).isEqualTo(5);
+		assertThat(decorator.getSentMessageCount()).isEqualTo(0);
 		assertThat(session.isOpen()).isTrue();
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +56,22 @@ public class SockJsFrameTests {
 		assertThat(frame.getFrameData()).isEqualTo("[\"m1\",\"m2\"]");
 	}
 
+	@Test
+	public void messageArrayFrameWithSockJsSpecialChars() {
+		SockJsFrame frame = SockJsFrame.messageFrame(new Jackson2SockJsMessageCodec(), "a\u0001b\u200dc\uffff");
+
+		assertThat(frame.getContent()).isEqualTo("a[\"a\\u0001b\\u200dc\\uffff\"]");
+	}
+
+	@Test
+	public void defaultFrameFormat() {
+		SockJsFrame frame = SockJsFrame.messageFrame(new Jackson2SockJsMessageCodec(), "m1");
+
+		assertThat(new DefaultSockJsFrameFormat("data: %s\r\n\r\n").format(frame))
+				.isEqualTo("data: a[\"m1\"]\r\n\r\n");
+		assertThat(new DefaultSockJsFrameFormat("100%% %s").format(frame)).isEqualTo("100% a[\"m1\"]");
+	}
+
 	@Test
 	public void messageArrayFrameEmpty() {
 		SockJsFrame frame = new SockJsFrame("a");